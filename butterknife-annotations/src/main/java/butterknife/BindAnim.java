@@ -8,7 +8,8 @@ import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 /**
- * Bind a field to the specified animation resource ID.
+ * Bind a field to the specified animation resource ID. The XML is parsed once per theme and each
+ * bind receives a clone of that animation.
  * <pre><code>
  * {@literal @}BindAnim(R.anim.fade_in) Animation fadeIn;
  * </code></pre>
@@ -18,4 +19,10 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface BindAnim {
   /** Animation resource ID to which the field will be bound. */
   @AnimRes int value();
+
+  /**
+   * Set to false to parse the XML on every bind, for example when the target changes the shared
+   * interpolator of the animation.
+   */
+  boolean cache() default true;
 }
@@ -2,6 +2,7 @@ package butterknife;
 
 import android.graphics.Bitmap;
 import androidx.annotation.DrawableRes;
+import androidx.annotation.Px;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
@@ -12,11 +13,40 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * Bind a field to a {@link Bitmap} from the specified drawable resource ID.
  * <pre><code>
  * {@literal @}BindBitmap(R.drawable.logo) Bitmap logo;
+ * {@literal @}BindBitmap(value = R.drawable.header, width = 540, config = Bitmap.Config.RGB_565,
+ *     async = true)
+ * Bitmap header;
  * </code></pre>
+ * Bitmaps bound with any of the decoding options are shared between targets through a cache
+ * bounded to an eighth of the heap. They must not be recycled or modified.
  */
 @Target(FIELD)
 @Retention(RUNTIME)
 public @interface BindBitmap {
   /** Drawable resource ID from which the {@link Bitmap} will be created. */
   @DrawableRes int value();
+
+  /**
+   * Width the bitmap will be displayed at. The bitmap is downsampled by the largest power of two
+   * which keeps it at least this wide. Zero does not constrain the width.
+   */
+  @Px int width() default 0;
+
+  /**
+   * Height the bitmap will be displayed at. The bitmap is downsampled by the largest power of two
+   * which keeps it at least this tall. Zero does not constrain the height.
+   */
+  @Px int height() default 0;
+
+  /** The minimum {@link android.graphics.BitmapFactory.Options#inSampleSize inSampleSize}. */
+  int sampleSize() default 1;
+
+  /** The {@link android.graphics.BitmapFactory.Options#inPreferredConfig config} to decode to. */
+  Bitmap.Config config() default Bitmap.Config.ARGB_8888;
+
+  /**
+   * Decode on a background thread and assign the field on the main thread once done. The field is
+   * assigned during the bind when the bitmap is already cached and is null until then otherwise.
+   */
+  boolean async() default false;
 }
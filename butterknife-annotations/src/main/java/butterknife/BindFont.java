@@ -12,9 +12,11 @@ import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 /**
- * Bind a field to the specified font resource ID.
+ * Bind a field to the specified font resource ID. Typefaces are resolved once per process and
+ * shared by every target which binds the same font and style.
  * <pre><code>
  * {@literal @}BindFont(R.font.comic_sans) Typeface comicSans;
+ * {@literal @}BindFont(value = R.font.lobster, async = true) Typeface lobster;
  * </code></pre>
  */
 @Target(FIELD)
@@ -25,6 +27,13 @@ public @interface BindFont {
 
   @TypefaceStyle int style() default Typeface.NORMAL;
 
+  /**
+   * Resolve the font on a background thread and assign the field on the main thread once loaded.
+   * The field is assigned during the bind when the font was already resolved and is null until
+   * then otherwise, or if the font fails to load.
+   */
+  boolean async() default false;
+
   @IntDef({
       Typeface.NORMAL,
       Typeface.BOLD,
@@ -0,0 +1,31 @@
+package butterknife;
+
+import androidx.annotation.IdRes;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Look up the views of a target only inside the container view with the specified ID rather than
+ * the whole source. For an activity or dialog this skips the window decor.
+ * <pre><code>
+ * {@literal @}BindRoot(R.id.screen_root)
+ * public class ExampleActivity extends Activity {
+ *   {@literal @}BindView(R.id.title) TextView title;
+ * }
+ * </code></pre>
+ * When the source does not contain the container, views are looked up in the whole source. Methods
+ * bound without an ID are bound to the container.
+ * <p>
+ * Every activity and dialog target without this annotation can be rooted at
+ * {@code android.R.id.content} by setting the {@code butterknife.contentRoot} annotation processor
+ * option to {@code true}.
+ */
+@Retention(RUNTIME) @Target(TYPE) @Inherited
+public @interface BindRoot {
+  /** ID of the container view in which the views of the target will be looked up. */
+  @IdRes int value();
+}
@@ -0,0 +1,12 @@
+package butterknife;
+
+/** How often a listener method is invoked for a burst of events. */
+public enum Coalesce {
+  /** Invoke the method for every event. */
+  NONE,
+  /**
+   * Invoke the method at most once per frame with the arguments of the latest event. Events which
+   * are superseded in the same frame are dropped.
+   */
+  FRAME
+}
@@ -21,6 +21,15 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * Any number of parameters from
  * {@link OnClickListener#onClick(android.view.View) onClick} may be used on the
  * method.
+ * <p>
+ * By default a click disables every click listener for the rest of its frame. Specify a
+ * {@link #debounce() debounce} interval to instead ignore clicks in the same window until that
+ * much time has passed.
+ * <pre><code>
+ * {@literal @}OnClick(value = R.id.submit, debounce = 500) void submit() {
+ *   // ...
+ * }
+ * </code></pre>
  *
  * @see OnClickListener
  */
@@ -38,4 +47,10 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface OnClick {
   /** View IDs to which the method will be bound. */
   @IdRes int[] value() default { View.NO_ID };
+
+  /**
+   * Milliseconds after a click during which further clicks on any view of its window are ignored.
+   * Zero only ignores clicks in the same frame.
+   */
+  long debounce() default 0;
 }
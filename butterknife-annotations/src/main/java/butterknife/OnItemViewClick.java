@@ -0,0 +1,53 @@
+package butterknife;
+
+import androidx.annotation.IdRes;
+import butterknife.internal.ListenerClass;
+import butterknife.internal.ListenerMethod;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Bind a method to clicks on the views with the specified IDs inside the items of a
+ * {@code RecyclerView}.
+ * <pre><code>
+ * {@literal @}OnItemViewClick(container = R.id.list, value = R.id.like_button)
+ * void onLikeClicked(int position) {
+ *   Toast.makeText(this, "Liked position " + position + "!", Toast.LENGTH_SHORT).show();
+ * }
+ * </code></pre>
+ * Instead of a click listener on each item, a single touch listener on the {@code RecyclerView}
+ * finds the item and view under a tap when it happens. The clicked {@link android.view.View View}
+ * and the adapter position of its item may be used as parameters of the method.
+ * <p>
+ * The views do not need to be clickable and any click listeners of their own are called as well.
+ * Views which are disabled or not visible are ignored.
+ * <p>
+ * Only taps on the touch screen are detected. Clicks from TalkBack, a keyboard or a D-pad call
+ * {@code performClick()} on the view itself and do not call the method. Use {@link OnClick} for
+ * views which must support them.
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+@ListenerClass(
+    targetType = "androidx.recyclerview.widget.RecyclerView",
+    setter = "addOnItemTouchListener",
+    remover = "removeOnItemTouchListener",
+    type = "butterknife.internal.ItemViewClickListener",
+    method = @ListenerMethod(
+        name = "onItemViewClick",
+        parameters = {
+            "android.view.View",
+            "int"
+        }
+    )
+)
+public @interface OnItemViewClick {
+  /** ID of the {@code RecyclerView} to which the listener will be added. */
+  @IdRes int container();
+
+  /** IDs of the views inside each item whose clicks call the method. */
+  @IdRes int[] value();
+}
@@ -26,6 +26,15 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  *   Toast.makeText(this, "State changed: " + state + "!", Toast.LENGTH_SHORT).show();
  * }
  * </code></pre>
+ * <p>
+ * Callbacks which fire many times per frame can be coalesced so that the method is only invoked
+ * once per frame with the latest arguments.
+ * <pre><code>
+ * {@literal @}OnPageChange(value = R.id.example_pager, callback = PAGE_SCROLLED, coalesce = FRAME)
+ * void onPageScrolled(int position, float offset) {
+ *   indicator.setPosition(position + offset);
+ * }
+ * </code></pre>
  */
 @Target(METHOD)
 @Retention(RUNTIME)
@@ -43,6 +52,9 @@ public @interface OnPageChange {
   /** Listener callback to which the method will be bound. */
   Callback callback() default Callback.PAGE_SELECTED;
 
+  /** Whether every event or only the latest of each frame invokes the method. */
+  Coalesce coalesce() default Coalesce.NONE;
+
   /** {@code ViewPager.OnPageChangeListener} callback methods. */
   enum Callback {
     /** {@code onPageSelected(int)} */
@@ -28,6 +28,15 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  *   Toast.makeText(this, "Before text changed: " + text, Toast.LENGTH_SHORT).show();
  * }
  * </code></pre>
+ * <p>
+ * Callbacks which fire many times per frame can be coalesced so that the method is only invoked
+ * once per frame with the latest arguments.
+ * <pre><code>
+ * {@literal @}OnTextChanged(value = R.id.query, coalesce = FRAME)
+ * void onQueryChanged(CharSequence query) {
+ *   adapter.filter(query);
+ * }
+ * </code></pre>
  *
  * @see TextWatcher
  */
@@ -47,6 +56,9 @@ public @interface OnTextChanged {
   /** Listener callback to which the method will be bound. */
   Callback callback() default Callback.TEXT_CHANGED;
 
+  /** Whether every event or only the latest of each frame invokes the method. */
+  Coalesce coalesce() default Coalesce.NONE;
+
   /** {@link TextWatcher} callback methods. */
   enum Callback {
     /** {@link TextWatcher#onTextChanged(CharSequence, int, int, int)} */
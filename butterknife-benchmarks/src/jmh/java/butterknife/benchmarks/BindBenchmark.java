@@ -0,0 +1,82 @@
+package butterknife.benchmarks;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import android.widget.TextView;
+import butterknife.ButterKnife;
+import butterknife.Unbinder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ButterKnife#bind(Object, android.view.View)} for whichever implementation is on
+ * the classpath. Every benchmark binds into the same hierarchy of {@value #VIEW_COUNT} views so
+ * that only the number and kind of bindings differ between them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindBenchmark {
+  static final int VIEW_COUNT = 100;
+
+  private ViewGroup source;
+  private final OneViewTarget oneView = new OneViewTarget();
+  private final TenViewTarget tenViews = new TenViewTarget();
+  private final HundredViewTarget hundredViews = new HundredViewTarget();
+  private final ListenerTarget listeners = new ListenerTarget();
+  private final ResourceTarget resources = new ResourceTarget();
+  private final HierarchyTarget.Level9 hierarchy = new HierarchyTarget.Level9();
+
+  @Setup public void setUp() {
+    Resources resources = new Resources();
+    Context context = new Context() {
+      @Override public Resources getResources() {
+        return resources;
+      }
+    };
+    source = new FrameLayout(context);
+    for (int id = 1; id <= VIEW_COUNT; id++) {
+      TextView view = new TextView(context);
+      view.setId(id);
+      source.addView(view);
+    }
+  }
+
+  @Benchmark public Unbinder oneView() {
+    return ButterKnife.bind(oneView, source);
+  }
+
+  @Benchmark public Unbinder tenViews() {
+    return ButterKnife.bind(tenViews, source);
+  }
+
+  @Benchmark public Unbinder hundredViews() {
+    return ButterKnife.bind(hundredViews, source);
+  }
+
+  @Benchmark public Unbinder listeners() {
+    return ButterKnife.bind(listeners, source);
+  }
+
+  @Benchmark public Unbinder resources() {
+    return ButterKnife.bind(resources, source);
+  }
+
+  @Benchmark public Unbinder hierarchy() {
+    return ButterKnife.bind(hierarchy, source);
+  }
+}
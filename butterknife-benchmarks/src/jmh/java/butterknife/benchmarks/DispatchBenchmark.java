@@ -0,0 +1,84 @@
+package butterknife.benchmarks;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import android.widget.TextView;
+import butterknife.ButterKnife;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the callbacks of listeners bound into a {@link ListenerTarget}, rather than the bind
+ * itself. The {@code Reflection} variants run with a platform version below 26 so that the
+ * reflective implementation invokes the methods with {@link java.lang.reflect.Method#invoke}
+ * instead of method handles. They are identical to the others for the generated implementation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+  private View click;
+  private View clickView;
+  private View focusChange;
+
+  @Setup public void setUp() {
+    Resources resources = new Resources();
+    Context context = new Context() {
+      @Override public Resources getResources() {
+        return resources;
+      }
+    };
+    ViewGroup source = new FrameLayout(context);
+    for (int id = 1; id <= BindBenchmark.VIEW_COUNT; id++) {
+      TextView view = new TextView(context);
+      view.setId(id);
+      source.addView(view);
+    }
+    ButterKnife.bind(new ListenerTarget(), source);
+    click = source.findViewById(1);
+    clickView = source.findViewById(2);
+    focusChange = source.findViewById(7);
+  }
+
+  @Benchmark public boolean click() {
+    return click.performClick();
+  }
+
+  @Benchmark public boolean clickView() {
+    return clickView.performClick();
+  }
+
+  @Benchmark public void focusChange() {
+    focusChange.getOnFocusChangeListener().onFocusChange(focusChange, true);
+  }
+
+  @Benchmark @Fork(value = 1, jvmArgsAppend = "-Dandroid.sdk=25")
+  public boolean clickReflection() {
+    return click.performClick();
+  }
+
+  @Benchmark @Fork(value = 1, jvmArgsAppend = "-Dandroid.sdk=25")
+  public boolean clickViewReflection() {
+    return clickView.performClick();
+  }
+
+  @Benchmark @Fork(value = 1, jvmArgsAppend = "-Dandroid.sdk=25")
+  public void focusChangeReflection() {
+    focusChange.getOnFocusChangeListener().onFocusChange(focusChange, true);
+  }
+}
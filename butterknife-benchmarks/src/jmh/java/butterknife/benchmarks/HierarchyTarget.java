@@ -0,0 +1,51 @@
+package butterknife.benchmarks;
+
+import android.view.View;
+import butterknife.BindView;
+
+/** A chain of ten targets where each level adds one view binding to its superclass. */
+public final class HierarchyTarget {
+  public static class Level0 {
+    @BindView(1) View view0;
+  }
+
+  public static class Level1 extends Level0 {
+    @BindView(2) View view1;
+  }
+
+  public static class Level2 extends Level1 {
+    @BindView(3) View view2;
+  }
+
+  public static class Level3 extends Level2 {
+    @BindView(4) View view3;
+  }
+
+  public static class Level4 extends Level3 {
+    @BindView(5) View view4;
+  }
+
+  public static class Level5 extends Level4 {
+    @BindView(6) View view5;
+  }
+
+  public static class Level6 extends Level5 {
+    @BindView(7) View view6;
+  }
+
+  public static class Level7 extends Level6 {
+    @BindView(8) View view7;
+  }
+
+  public static class Level8 extends Level7 {
+    @BindView(9) View view8;
+  }
+
+  public static class Level9 extends Level8 {
+    @BindView(10) View view9;
+  }
+
+  private HierarchyTarget() {
+    throw new AssertionError("No instances.");
+  }
+}
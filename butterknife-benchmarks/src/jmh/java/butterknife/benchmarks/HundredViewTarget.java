@@ -0,0 +1,108 @@
+package butterknife.benchmarks;
+
+import android.view.View;
+import butterknife.BindView;
+
+/** A target with one hundred view bindings. */
+public final class HundredViewTarget {
+  @BindView(1) View view1;
+  @BindView(2) View view2;
+  @BindView(3) View view3;
+  @BindView(4) View view4;
+  @BindView(5) View view5;
+  @BindView(6) View view6;
+  @BindView(7) View view7;
+  @BindView(8) View view8;
+  @BindView(9) View view9;
+  @BindView(10) View view10;
+  @BindView(11) View view11;
+  @BindView(12) View view12;
+  @BindView(13) View view13;
+  @BindView(14) View view14;
+  @BindView(15) View view15;
+  @BindView(16) View view16;
+  @BindView(17) View view17;
+  @BindView(18) View view18;
+  @BindView(19) View view19;
+  @BindView(20) View view20;
+  @BindView(21) View view21;
+  @BindView(22) View view22;
+  @BindView(23) View view23;
+  @BindView(24) View view24;
+  @BindView(25) View view25;
+  @BindView(26) View view26;
+  @BindView(27) View view27;
+  @BindView(28) View view28;
+  @BindView(29) View view29;
+  @BindView(30) View view30;
+  @BindView(31) View view31;
+  @BindView(32) View view32;
+  @BindView(33) View view33;
+  @BindView(34) View view34;
+  @BindView(35) View view35;
+  @BindView(36) View view36;
+  @BindView(37) View view37;
+  @BindView(38) View view38;
+  @BindView(39) View view39;
+  @BindView(40) View view40;
+  @BindView(41) View view41;
+  @BindView(42) View view42;
+  @BindView(43) View view43;
+  @BindView(44) View view44;
+  @BindView(45) View view45;
+  @BindView(46) View view46;
+  @BindView(47) View view47;
+  @BindView(48) View view48;
+  @BindView(49) View view49;
+  @BindView(50) View view50;
+  @BindView(51) View view51;
+  @BindView(52) View view52;
+  @BindView(53) View view53;
+  @BindView(54) View view54;
+  @BindView(55) View view55;
+  @BindView(56) View view56;
+  @BindView(57) View view57;
+  @BindView(58) View view58;
+  @BindView(59) View view59;
+  @BindView(60) View view60;
+  @BindView(61) View view61;
+  @BindView(62) View view62;
+  @BindView(63) View view63;
+  @BindView(64) View view64;
+  @BindView(65) View view65;
+  @BindView(66) View view66;
+  @BindView(67) View view67;
+  @BindView(68) View view68;
+  @BindView(69) View view69;
+  @BindView(70) View view70;
+  @BindView(71) View view71;
+  @BindView(72) View view72;
+  @BindView(73) View view73;
+  @BindView(74) View view74;
+  @BindView(75) View view75;
+  @BindView(76) View view76;
+  @BindView(77) View view77;
+  @BindView(78) View view78;
+  @BindView(79) View view79;
+  @BindView(80) View view80;
+  @BindView(81) View view81;
+  @BindView(82) View view82;
+  @BindView(83) View view83;
+  @BindView(84) View view84;
+  @BindView(85) View view85;
+  @BindView(86) View view86;
+  @BindView(87) View view87;
+  @BindView(88) View view88;
+  @BindView(89) View view89;
+  @BindView(90) View view90;
+  @BindView(91) View view91;
+  @BindView(92) View view92;
+  @BindView(93) View view93;
+  @BindView(94) View view94;
+  @BindView(95) View view95;
+  @BindView(96) View view96;
+  @BindView(97) View view97;
+  @BindView(98) View view98;
+  @BindView(99) View view99;
+  @BindView(100) View view100;
+}
@@ -0,0 +1,28 @@
+package butterknife.benchmarks;
+
+import android.view.MotionEvent;
+import android.view.View;
+import butterknife.OnClick;
+import butterknife.OnFocusChange;
+import butterknife.OnLongClick;
+import butterknife.OnTouch;
+
+/** A target with listener bindings of varying argument counts. */
+public final class ListenerTarget {
+  @OnClick(1) void onClick() {
+  }
+
+  @OnClick({ 2, 3, 4 }) void onClickView(View view) {
+  }
+
+  @OnLongClick(5) boolean onLongClick() {
+    return true;
+  }
+
+  @OnTouch(6) boolean onTouch(View view, MotionEvent event) {
+    return false;
+  }
+
+  @OnFocusChange(7) void onFocusChange(boolean hasFocus) {
+  }
+}
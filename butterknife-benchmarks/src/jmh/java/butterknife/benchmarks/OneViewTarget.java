@@ -0,0 +1,9 @@
+package butterknife.benchmarks;
+
+import android.view.View;
+import butterknife.BindView;
+
+/** A target with a single view binding. */
+public final class OneViewTarget {
+  @BindView(1) View view1;
+}
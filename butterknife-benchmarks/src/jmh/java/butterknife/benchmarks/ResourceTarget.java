@@ -0,0 +1,17 @@
+package butterknife.benchmarks;
+
+import butterknife.BindBool;
+import butterknife.BindColor;
+import butterknife.BindDimen;
+import butterknife.BindInt;
+import butterknife.BindString;
+
+/** A target with a binding for each of the simple resource types. */
+public final class ResourceTarget {
+  @BindBool(1) boolean bool;
+  @BindColor(2) int color;
+  @BindDimen(3) int dimenPixelSize;
+  @BindDimen(4) float dimen;
+  @BindInt(5) int integer;
+  @BindString(6) String string;
+}
@@ -0,0 +1,18 @@
+package butterknife.benchmarks;
+
+import android.view.View;
+import butterknife.BindView;
+
+/** A target with ten view bindings. */
+public final class TenViewTarget {
+  @BindView(1) View view1;
+  @BindView(2) View view2;
+  @BindView(3) View view3;
+  @BindView(4) View view4;
+  @BindView(5) View view5;
+  @BindView(6) View view6;
+  @BindView(7) View view7;
+  @BindView(8) View view8;
+  @BindView(9) View view9;
+  @BindView(10) View view10;
+}
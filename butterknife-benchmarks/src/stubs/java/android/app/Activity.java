@@ -0,0 +1,10 @@
+package android.app;
+
+import android.content.Context;
+import android.view.Window;
+
+public class Activity extends Context {
+  public Window getWindow() {
+    throw new RuntimeException("Stub!");
+  }
+}
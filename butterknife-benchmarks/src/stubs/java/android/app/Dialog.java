@@ -0,0 +1,14 @@
+package android.app;
+
+import android.content.Context;
+import android.view.Window;
+
+public class Dialog {
+  public Context getContext() {
+    throw new RuntimeException("Stub!");
+  }
+
+  public Window getWindow() {
+    throw new RuntimeException("Stub!");
+  }
+}
@@ -0,0 +1,17 @@
+package android.content;
+
+import android.content.res.Resources;
+
+public abstract class Context {
+  public Resources getResources() {
+    throw new RuntimeException("Stub!");
+  }
+
+  public Resources.Theme getTheme() {
+    throw new RuntimeException("Stub!");
+  }
+
+  public final String getString(int resId) {
+    return getResources().getString(resId);
+  }
+}
@@ -0,0 +1,18 @@
+package android.content.res;
+
+/** A configuration which never changes, so every instance is equal. */
+public final class Configuration {
+  public Configuration() {
+  }
+
+  public Configuration(Configuration o) {
+  }
+
+  @Override public boolean equals(Object o) {
+    return o instanceof Configuration;
+  }
+
+  @Override public int hashCode() {
+    return 0;
+  }
+}
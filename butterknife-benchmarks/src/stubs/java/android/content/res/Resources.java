@@ -0,0 +1,87 @@
+package android.content.res;
+
+import android.graphics.drawable.Drawable;
+import android.util.DisplayMetrics;
+import android.util.TypedValue;
+
+/** Resources whose values are all fixed. Only the primitive and string getters are supported. */
+public class Resources {
+  private final Configuration configuration = new Configuration();
+  private final DisplayMetrics displayMetrics = new DisplayMetrics();
+
+  public boolean getBoolean(int id) {
+    return true;
+  }
+
+  public int getColor(int id) {
+    return 0xff000000;
+  }
+
+  public ColorStateList getColorStateList(int id) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public Configuration getConfiguration() {
+    return configuration;
+  }
+
+  public float getDimension(int id) {
+    return 1.5f;
+  }
+
+  public int getDimensionPixelSize(int id) {
+    return 2;
+  }
+
+  public DisplayMetrics getDisplayMetrics() {
+    return displayMetrics;
+  }
+
+  public Drawable getDrawable(int id) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public int[] getIntArray(int id) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public int getInteger(int id) {
+    return 3;
+  }
+
+  public String getResourceEntryName(int id) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public String getString(int id) {
+    return "string";
+  }
+
+  public String[] getStringArray(int id) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public CharSequence[] getTextArray(int id) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public void getValue(int id, TypedValue outValue, boolean resolveRefs) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public TypedArray obtainTypedArray(int id) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public final class Theme {
+    public boolean resolveAttribute(int resId, TypedValue outValue, boolean resolveRefs) {
+      throw new RuntimeException("Stub!");
+    }
+  }
+
+  public static class NotFoundException extends RuntimeException {
+    public NotFoundException(String name) {
+      super(name);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package android.graphics;
+
+public final class Bitmap {
+  public int getByteCount() {
+    throw new RuntimeException("Stub!");
+  }
+
+  public enum Config {
+    ALPHA_8,
+    RGB_565,
+    ARGB_4444,
+    ARGB_8888,
+    RGBA_F16,
+    HARDWARE
+  }
+}
@@ -0,0 +1,24 @@
+package android.graphics;
+
+import android.content.res.Resources;
+
+public class BitmapFactory {
+  private BitmapFactory() {
+  }
+
+  public static Bitmap decodeResource(Resources res, int id) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public static Bitmap decodeResource(Resources res, int id, Options opts) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public static class Options {
+    public boolean inJustDecodeBounds;
+    public int inSampleSize;
+    public Bitmap.Config inPreferredConfig = Bitmap.Config.ARGB_8888;
+    public int outWidth;
+    public int outHeight;
+  }
+}
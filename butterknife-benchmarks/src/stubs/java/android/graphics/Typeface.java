@@ -0,0 +1,12 @@
+package android.graphics;
+
+public class Typeface {
+  public static final int NORMAL = 0;
+  public static final int BOLD = 1;
+  public static final int ITALIC = 2;
+  public static final int BOLD_ITALIC = 3;
+
+  public static Typeface create(Typeface family, int style) {
+    throw new RuntimeException("Stub!");
+  }
+}
@@ -0,0 +1,21 @@
+package android.graphics.drawable;
+
+import android.content.res.Resources;
+
+public abstract class Drawable {
+  public Drawable mutate() {
+    throw new RuntimeException("Stub!");
+  }
+
+  public ConstantState getConstantState() {
+    throw new RuntimeException("Stub!");
+  }
+
+  public abstract static class ConstantState {
+    public abstract Drawable newDrawable();
+
+    public Drawable newDrawable(Resources res) {
+      return newDrawable();
+    }
+  }
+}
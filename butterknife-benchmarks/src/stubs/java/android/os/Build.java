@@ -0,0 +1,14 @@
+package android.os;
+
+public class Build {
+  private Build() {
+  }
+
+  public static class VERSION {
+    /** Overridden with {@code -Dandroid.sdk} to run code paths chosen by platform version. */
+    public static final int SDK_INT = Integer.getInteger("android.sdk", 28);
+
+    private VERSION() {
+    }
+  }
+}
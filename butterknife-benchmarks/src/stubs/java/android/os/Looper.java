@@ -0,0 +1,17 @@
+package android.os;
+
+public final class Looper {
+  private static final Looper MAIN = new Looper();
+
+  private Looper() {
+  }
+
+  public static Looper getMainLooper() {
+    return MAIN;
+  }
+
+  /** Benchmarks run on a single thread which stands in for the main thread. */
+  public static Looper myLooper() {
+    return MAIN;
+  }
+}
@@ -0,0 +1,23 @@
+package android.util;
+
+import java.util.LinkedHashMap;
+
+/** A cache which is only bounded by its number of entries. */
+public class LruCache<K, V> {
+  private final LinkedHashMap<K, V> map = new LinkedHashMap<>(0, 0.75f, true);
+
+  public LruCache(int maxSize) {
+  }
+
+  public final synchronized V get(K key) {
+    return map.get(key);
+  }
+
+  public final synchronized V put(K key, V value) {
+    return map.put(key, value);
+  }
+
+  protected int sizeOf(K key, V value) {
+    return 1;
+  }
+}
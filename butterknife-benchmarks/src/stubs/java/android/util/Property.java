@@ -0,0 +1,12 @@
+package android.util;
+
+public abstract class Property<T, V> {
+  public Property(Class<V> type, String name) {
+  }
+
+  public abstract V get(T object);
+
+  public void set(T object, V value) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,12 @@
+package android.util;
+
+public class TypedValue {
+  public static final int TYPE_FLOAT = 0x04;
+
+  public int type;
+  public int resourceId;
+
+  public final float getFloat() {
+    throw new RuntimeException("Stub!");
+  }
+}
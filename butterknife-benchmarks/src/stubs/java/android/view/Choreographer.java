@@ -0,0 +1,21 @@
+package android.view;
+
+/** A choreographer which has no display and so runs each frame callback immediately. */
+public final class Choreographer {
+  private static final Choreographer INSTANCE = new Choreographer();
+
+  public interface FrameCallback {
+    void doFrame(long frameTimeNanos);
+  }
+
+  public static Choreographer getInstance() {
+    return INSTANCE;
+  }
+
+  public void postFrameCallback(FrameCallback callback) {
+    callback.doFrame(System.nanoTime());
+  }
+
+  public void removeFrameCallback(FrameCallback callback) {
+  }
+}
@@ -0,0 +1,23 @@
+package android.view;
+
+import android.content.Context;
+
+/** A gesture detector which never sees a gesture. */
+public class GestureDetector {
+  public GestureDetector(Context context, OnGestureListener listener) {
+  }
+
+  public boolean onTouchEvent(MotionEvent ev) {
+    return false;
+  }
+
+  public interface OnGestureListener {
+    boolean onSingleTapUp(MotionEvent e);
+  }
+
+  public static class SimpleOnGestureListener implements OnGestureListener {
+    @Override public boolean onSingleTapUp(MotionEvent e) {
+      return false;
+    }
+  }
+}
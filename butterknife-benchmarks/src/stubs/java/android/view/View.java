@@ -0,0 +1,119 @@
+package android.view;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Rect;
+
+/** A view which only supports IDs, hierarchy lookup, and holding listeners. */
+public class View {
+  public static final int NO_ID = -1;
+  public static final int VISIBLE = 0;
+
+  private final Context context;
+  int id = NO_ID;
+  ViewParent parent;
+  OnClickListener onClickListener;
+  OnFocusChangeListener onFocusChangeListener;
+  OnLongClickListener onLongClickListener;
+  OnTouchListener onTouchListener;
+
+  public View(Context context) {
+    this.context = context;
+  }
+
+  public final Context getContext() {
+    return context;
+  }
+
+  public Resources getResources() {
+    return context.getResources();
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public void setId(int id) {
+    this.id = id;
+  }
+
+  public final ViewParent getParent() {
+    return parent;
+  }
+
+  public View getRootView() {
+    View root = this;
+    while (root.parent instanceof View) {
+      root = (View) root.parent;
+    }
+    return root;
+  }
+
+  public int getVisibility() {
+    return VISIBLE;
+  }
+
+  public void getDrawingRect(Rect outRect) {
+    outRect.set(0, 0, 0, 0);
+  }
+
+  public boolean isInEditMode() {
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  public final <T extends View> T findViewById(int id) {
+    if (id == NO_ID) {
+      return null;
+    }
+    return (T) findViewTraversal(id);
+  }
+
+  View findViewTraversal(int id) {
+    return id == this.id ? this : null;
+  }
+
+  public boolean performClick() {
+    if (onClickListener == null) {
+      return false;
+    }
+    onClickListener.onClick(this);
+    return true;
+  }
+
+  public OnFocusChangeListener getOnFocusChangeListener() {
+    return onFocusChangeListener;
+  }
+
+  public void setOnClickListener(OnClickListener l) {
+    onClickListener = l;
+  }
+
+  public void setOnFocusChangeListener(OnFocusChangeListener l) {
+    onFocusChangeListener = l;
+  }
+
+  public void setOnLongClickListener(OnLongClickListener l) {
+    onLongClickListener = l;
+  }
+
+  public void setOnTouchListener(OnTouchListener l) {
+    onTouchListener = l;
+  }
+
+  public interface OnClickListener {
+    void onClick(View v);
+  }
+
+  public interface OnFocusChangeListener {
+    void onFocusChange(View v, boolean hasFocus);
+  }
+
+  public interface OnLongClickListener {
+    boolean onLongClick(View v);
+  }
+
+  public interface OnTouchListener {
+    boolean onTouch(View v, MotionEvent event);
+  }
+}
@@ -0,0 +1,4 @@
+package android.view.animation;
+
+public abstract class Animation {
+}
@@ -0,0 +1,12 @@
+package android.view.animation;
+
+import android.content.Context;
+
+public class AnimationUtils {
+  private AnimationUtils() {
+  }
+
+  public static Animation loadAnimation(Context context, int id) {
+    throw new RuntimeException("Stub!");
+  }
+}
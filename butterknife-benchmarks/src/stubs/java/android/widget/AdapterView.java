@@ -0,0 +1,30 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+
+public abstract class AdapterView<T extends Adapter> extends ViewGroup {
+  OnItemClickListener onItemClickListener;
+  OnItemLongClickListener onItemLongClickListener;
+
+  public AdapterView(Context context) {
+    super(context);
+  }
+
+  public void setOnItemClickListener(OnItemClickListener listener) {
+    onItemClickListener = listener;
+  }
+
+  public void setOnItemLongClickListener(OnItemLongClickListener listener) {
+    onItemLongClickListener = listener;
+  }
+
+  public interface OnItemClickListener {
+    void onItemClick(AdapterView<?> parent, View view, int position, long id);
+  }
+
+  public interface OnItemLongClickListener {
+    boolean onItemLongClick(AdapterView<?> parent, View view, int position, long id);
+  }
+}
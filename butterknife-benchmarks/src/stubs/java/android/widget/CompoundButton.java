@@ -0,0 +1,19 @@
+package android.widget;
+
+import android.content.Context;
+
+public abstract class CompoundButton extends TextView {
+  OnCheckedChangeListener onCheckedChangeListener;
+
+  public CompoundButton(Context context) {
+    super(context);
+  }
+
+  public void setOnCheckedChangeListener(OnCheckedChangeListener listener) {
+    onCheckedChangeListener = listener;
+  }
+
+  public interface OnCheckedChangeListener {
+    void onCheckedChanged(CompoundButton buttonView, boolean isChecked);
+  }
+}
@@ -0,0 +1,33 @@
+package android.widget;
+
+import android.content.Context;
+import android.text.TextWatcher;
+import android.view.KeyEvent;
+import android.view.View;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TextView extends View {
+  private final List<TextWatcher> textWatchers = new ArrayList<>();
+  OnEditorActionListener onEditorActionListener;
+
+  public TextView(Context context) {
+    super(context);
+  }
+
+  public void addTextChangedListener(TextWatcher watcher) {
+    textWatchers.add(watcher);
+  }
+
+  public void removeTextChangedListener(TextWatcher watcher) {
+    textWatchers.remove(watcher);
+  }
+
+  public void setOnEditorActionListener(OnEditorActionListener l) {
+    onEditorActionListener = l;
+  }
+
+  public interface OnEditorActionListener {
+    boolean onEditorAction(TextView v, int actionId, KeyEvent event);
+  }
+}
@@ -0,0 +1,34 @@
+package androidx.collection;
+
+import java.util.Arrays;
+
+/** Values in parallel arrays sorted by key, like the library implementation. */
+public class LongSparseArray<E> {
+  private long[] keys = new long[10];
+  private Object[] values = new Object[10];
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  public E get(long key) {
+    int index = Arrays.binarySearch(keys, 0, size, key);
+    return index >= 0 ? (E) values[index] : null;
+  }
+
+  public void put(long key, E value) {
+    int index = Arrays.binarySearch(keys, 0, size, key);
+    if (index >= 0) {
+      values[index] = value;
+      return;
+    }
+    index = ~index;
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      values = Arrays.copyOf(values, size * 2);
+    }
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(values, index, values, index + 1, size - index);
+    keys[index] = key;
+    values[index] = value;
+    size++;
+  }
+}
@@ -0,0 +1,22 @@
+package androidx.core.content;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.graphics.drawable.Drawable;
+
+public class ContextCompat {
+  private ContextCompat() {
+  }
+
+  public static int getColor(Context context, int id) {
+    return context.getResources().getColor(id);
+  }
+
+  public static ColorStateList getColorStateList(Context context, int id) {
+    return context.getResources().getColorStateList(id);
+  }
+
+  public static Drawable getDrawable(Context context, int id) {
+    return context.getResources().getDrawable(id);
+  }
+}
@@ -0,0 +1,25 @@
+package androidx.core.content.res;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.os.Handler;
+
+public final class ResourcesCompat {
+  private ResourcesCompat() {
+  }
+
+  public static Typeface getFont(Context context, int id) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public static void getFont(Context context, int id, FontCallback fontCallback,
+      Handler handler) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public abstract static class FontCallback {
+    public abstract void onFontRetrieved(Typeface typeface);
+
+    public abstract void onFontRetrievalFailed(int reason);
+  }
+}
@@ -0,0 +1,16 @@
+package androidx.core.graphics.drawable;
+
+import android.graphics.drawable.Drawable;
+
+public final class DrawableCompat {
+  private DrawableCompat() {
+  }
+
+  public static Drawable wrap(Drawable drawable) {
+    throw new RuntimeException("Stub!");
+  }
+
+  public static void setTint(Drawable drawable, int tint) {
+    throw new RuntimeException("Stub!");
+  }
+}
@@ -0,0 +1,54 @@
+package androidx.recyclerview.widget;
+
+import android.content.Context;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewGroup;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RecyclerView extends ViewGroup {
+  public static final int NO_POSITION = -1;
+
+  private final List<OnItemTouchListener> onItemTouchListeners = new ArrayList<>();
+
+  public RecyclerView(Context context) {
+    super(context);
+  }
+
+  public View findChildViewUnder(float x, float y) {
+    return null;
+  }
+
+  public int getChildAdapterPosition(View child) {
+    return NO_POSITION;
+  }
+
+  public void addOnItemTouchListener(OnItemTouchListener listener) {
+    onItemTouchListeners.add(listener);
+  }
+
+  public void removeOnItemTouchListener(OnItemTouchListener listener) {
+    onItemTouchListeners.remove(listener);
+  }
+
+  public interface OnItemTouchListener {
+    boolean onInterceptTouchEvent(RecyclerView rv, MotionEvent e);
+
+    void onTouchEvent(RecyclerView rv, MotionEvent e);
+
+    void onRequestDisallowInterceptTouchEvent(boolean disallowIntercept);
+  }
+
+  public static class SimpleOnItemTouchListener implements OnItemTouchListener {
+    @Override public boolean onInterceptTouchEvent(RecyclerView rv, MotionEvent e) {
+      return false;
+    }
+
+    @Override public void onTouchEvent(RecyclerView rv, MotionEvent e) {
+    }
+
+    @Override public void onRequestDisallowInterceptTouchEvent(boolean disallowIntercept) {
+    }
+  }
+}
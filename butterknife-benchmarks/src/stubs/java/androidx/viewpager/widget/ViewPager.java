@@ -0,0 +1,42 @@
+package androidx.viewpager.widget;
+
+import android.content.Context;
+import android.view.ViewGroup;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ViewPager extends ViewGroup {
+  private final List<OnPageChangeListener> onPageChangeListeners = new ArrayList<>();
+
+  public ViewPager(Context context) {
+    super(context);
+  }
+
+  public void addOnPageChangeListener(OnPageChangeListener listener) {
+    onPageChangeListeners.add(listener);
+  }
+
+  public void removeOnPageChangeListener(OnPageChangeListener listener) {
+    onPageChangeListeners.remove(listener);
+  }
+
+  public interface OnPageChangeListener {
+    void onPageScrolled(int position, float positionOffset, int positionOffsetPixels);
+
+    void onPageSelected(int position);
+
+    void onPageScrollStateChanged(int state);
+  }
+
+  public static class SimpleOnPageChangeListener implements OnPageChangeListener {
+    @Override public void onPageScrolled(int position, float positionOffset,
+        int positionOffsetPixels) {
+    }
+
+    @Override public void onPageSelected(int position) {
+    }
+
+    @Override public void onPageScrollStateChanged(int state) {
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package butterknife.compiler;
+
+/**
+ * The code generation options which are set through annotation processor options. Each binding
+ * only uses the ones which apply to it, so an option may be set for every binding regardless of
+ * what it binds.
+ */
+final class BindingOptions {
+  static final BindingOptions DEFAULT =
+      new BindingOptions(false, false, false, false, false, false, false);
+
+  /** Find the views of a binding in one traversal of the source. */
+  final boolean singlePass;
+  /** Generate bindings which can be moved onto another view hierarchy. */
+  final boolean rebind;
+  /** Bind targets without listeners through a static method instead of an instance. */
+  final boolean staticBind;
+  /** Load the simple resource values of a binding once per configuration. */
+  final boolean resourceCache;
+  /** Attach listeners once the next frame has been drawn. */
+  final boolean deferListeners;
+  /** Share one listener which dispatches on the view ID between the views of a binding. */
+  final boolean sharedListeners;
+  /** Look up the views of activities and dialogs inside {@code android.R.id.content}. */
+  final boolean contentRoot;
+
+  BindingOptions(boolean singlePass, boolean rebind, boolean staticBind, boolean resourceCache,
+      boolean deferListeners, boolean sharedListeners, boolean contentRoot) {
+    this.singlePass = singlePass;
+    this.rebind = rebind;
+    this.staticBind = staticBind;
+    this.resourceCache = resourceCache;
+    this.deferListeners = deferListeners;
+    this.sharedListeners = sharedListeners;
+    this.contentRoot = contentRoot;
+  }
+}
@@ -7,6 +7,7 @@ import com.google.common.collect.ImmutableList;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -17,11 +18,15 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import javax.annotation.Nullable;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
@@ -31,16 +36,21 @@ import static butterknife.compiler.ButterKnifeProcessor.ACTIVITY_TYPE;
 import static butterknife.compiler.ButterKnifeProcessor.DIALOG_TYPE;
 import static butterknife.compiler.ButterKnifeProcessor.VIEW_TYPE;
 import static butterknife.compiler.ButterKnifeProcessor.isSubtypeOfType;
+import static butterknife.compiler.Registry.BINDING_FACTORY;
 import static com.google.auto.common.MoreElements.getPackage;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PROTECTED;
 import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.element.Modifier.VOLATILE;
 
 /** A set of all the bindings requested by a single type. */
 final class BindingSet implements BindingInformationProvider {
   static final ClassName UTILS = ClassName.get("butterknife.internal", "Utils");
+  static final ClassName VIEW_TABLE = ClassName.get("butterknife.internal", "ViewTable");
   private static final ClassName VIEW = ClassName.get("android.view", "View");
   private static final ClassName CONTEXT = ClassName.get("android.content", "Context");
   private static final ClassName RESOURCES = ClassName.get("android.content.res", "Resources");
@@ -51,6 +61,14 @@ final class BindingSet implements BindingInformationProvider {
   private static final ClassName SUPPRESS_LINT =
       ClassName.get("android.annotation", "SuppressLint");
   private static final ClassName UNBINDER = ClassName.get("butterknife", "Unbinder");
+  private static final ClassName REBINDABLE = ClassName.get("butterknife.internal", "Rebindable");
+  private static final ClassName LAZY_VIEW = ClassName.get("butterknife.internal", "LazyView");
+  private static final ClassName LISTENER_QUEUE =
+      ClassName.get("butterknife.internal", "ListenerQueue");
+  private static final ClassName FRAME_COALESCER =
+      ClassName.get("butterknife.internal", "FrameCoalescer");
+  private static final ClassName RESOURCE_SNAPSHOT =
+      ClassName.get("butterknife.internal", "ResourceSnapshot");
   static final ClassName BITMAP_FACTORY = ClassName.get("android.graphics", "BitmapFactory");
   static final ClassName CONTEXT_COMPAT =
       ClassName.get("androidx.core.content", "ContextCompat");
@@ -68,6 +86,8 @@ final class BindingSet implements BindingInformationProvider {
   private final ImmutableList<FieldCollectionViewBinding> collectionBindings;
   private final ImmutableList<ResourceBinding> resourceBindings;
   private final @Nullable BindingInformationProvider parentBinding;
+  private final boolean hasSubclassBinding;
+  private final @Nullable Id rootId;
 
   private BindingSet(
       TypeName targetTypeName, ClassName bindingClassName, TypeElement enclosingElement,
@@ -75,7 +95,8 @@ final class BindingSet implements BindingInformationProvider {
       ImmutableList<ViewBinding> viewBindings,
       ImmutableList<FieldCollectionViewBinding> collectionBindings,
       ImmutableList<ResourceBinding> resourceBindings,
-      @Nullable BindingInformationProvider parentBinding) {
+      @Nullable BindingInformationProvider parentBinding, boolean hasSubclassBinding,
+      @Nullable Id rootId) {
     this.isFinal = isFinal;
     this.targetTypeName = targetTypeName;
     this.bindingClassName = bindingClassName;
@@ -87,6 +108,8 @@ final class BindingSet implements BindingInformationProvider {
     this.collectionBindings = collectionBindings;
     this.resourceBindings = resourceBindings;
     this.parentBinding = parentBinding;
+    this.hasSubclassBinding = hasSubclassBinding;
+    this.rootId = rootId;
   }
 
   @Override
@@ -94,14 +117,14 @@ final class BindingSet implements BindingInformationProvider {
     return bindingClassName;
   }
 
-  JavaFile brewJava(int sdk, boolean debuggable) {
-    TypeSpec bindingConfiguration = createType(sdk, debuggable);
+  JavaFile brewJava(int sdk, boolean debuggable, BindingOptions options) {
+    TypeSpec bindingConfiguration = createType(sdk, debuggable, options);
     return JavaFile.builder(bindingClassName.packageName(), bindingConfiguration)
         .addFileComment("Generated code from Butter Knife. Do not modify!")
         .build();
   }
 
-  private TypeSpec createType(int sdk, boolean debuggable) {
+  private TypeSpec createType(int sdk, boolean debuggable, BindingOptions options) {
     TypeSpec.Builder result = TypeSpec.classBuilder(bindingClassName.simpleName())
         .addModifiers(PUBLIC)
         .addOriginatingElement(enclosingElement);
@@ -113,11 +136,27 @@ final class BindingSet implements BindingInformationProvider {
       result.superclass(parentBinding.getBindingClassName());
     } else {
       result.addSuperinterface(UNBINDER);
+      if (options.rebind) {
+        result.addSuperinterface(REBINDABLE);
+      }
     }
 
+    // Bindings of a hierarchy generated together find the views of every level in one traversal.
+    boolean fused = options.singlePass && !options.rebind && isFused();
+    options = applicableOptions(options, fused);
+    result.addField(createBindingFactoryField(options.staticBind));
     if (hasTargetField()) {
       result.addField(targetTypeName, "target", PRIVATE);
     }
+    List<FieldResourceBinding> snapshotBindings = options.resourceCache
+        ? getSnapshotBindings()
+        : Collections.<FieldResourceBinding>emptyList();
+    if (!snapshotBindings.isEmpty()) {
+      result.addField(RESOURCE_SNAPSHOT, "resourceSnapshot", PRIVATE, STATIC, VOLATILE);
+    }
+    if (options.deferListeners) {
+      result.addField(Runnable.class, "pendingListeners", PRIVATE, FINAL);
+    }
 
     if (isView) {
       result.addMethod(createBindingConstructorForView());
@@ -130,15 +169,123 @@ final class BindingSet implements BindingInformationProvider {
       // Add a delegating constructor with a target type + view signature for reflective use.
       result.addMethod(createBindingViewDelegateConstructor());
     }
-    result.addMethod(createBindingConstructor(sdk, debuggable));
+    if (fused) {
+      result.addMethod(createBindingFusingConstructor());
+    }
+    result.addMethod(createBindingConstructor(sdk, debuggable, options, fused, snapshotBindings));
+    if (options.staticBind) {
+      result.addMethod(createStaticBindMethod(sdk, debuggable, options, snapshotBindings));
+    }
 
     if (hasViewBindings() || parentBinding == null) {
-      result.addMethod(createBindingUnbindMethod(result));
+      result.addMethod(createBindingUnbindMethod(result, options));
+      if (options.rebind) {
+        result.addMethod(createBindingRebindMethod());
+      }
+    }
+    if (options.deferListeners) {
+      result.addMethod(createAttachListenersMethod(debuggable, options));
+    }
+    if (options.rebind && hasViewBindings()) {
+      result.addMethod(createBindViewsMethod(debuggable, options));
     }
 
     return result.build();
   }
 
+  /** The subset of {@code options} which this binding supports. */
+  private BindingOptions applicableOptions(BindingOptions options, boolean fused) {
+    boolean rebind = options.rebind;
+    return new BindingOptions(
+        options.singlePass,
+        rebind,
+        // Without listeners or a superclass, nothing but unbind needs an instance of the binding.
+        options.staticBind && !rebind && parentBinding == null && !hasMethodBindings() && !fused,
+        options.resourceCache,
+        // Rebinding moves listeners which already exist, so they are attached as before.
+        options.deferListeners && !rebind && hasMethodBindings(),
+        options.sharedListeners && !rebind,
+        options.contentRoot);
+  }
+
+  private FieldSpec createBindingFactoryField(boolean staticBind) {
+    CodeBlock source = constructorNeedsView()
+        ? rootedSource(CodeBlock.of("source"))
+        : CodeBlock.of("source.getContext()");
+    MethodSpec.Builder bind = MethodSpec.methodBuilder("bind")
+        .addAnnotation(Override.class)
+        .addModifiers(PUBLIC)
+        .returns(UNBINDER)
+        .addParameter(Object.class, "target")
+        .addParameter(VIEW, "source");
+    TypeSpec.Builder factory = TypeSpec.anonymousClassBuilder("")
+        .addSuperinterface(BINDING_FACTORY);
+    if (staticBind) {
+      bind.addStatement("$T.bind(($T) target, $L)", bindingClassName, targetTypeName, source);
+      bind.addStatement("return $T.EMPTY", UNBINDER);
+      factory.addMethod(bind.build());
+      if (hasTargetField()) {
+        // Only an instance of the binding can clear the fields of its target.
+        factory.addMethod(MethodSpec.methodBuilder("bindWithUnbinder")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(UNBINDER)
+            .addParameter(Object.class, "target")
+            .addParameter(VIEW, "source")
+            .addStatement("return new $T(($T) target, $L)", bindingClassName, targetTypeName,
+                source)
+            .build());
+      }
+    } else {
+      bind.addStatement("return new $T(($T) target, $L)", bindingClassName, targetTypeName, source);
+      factory.addMethod(bind.build());
+    }
+
+    int viewCount = viewLookupCount();
+    if (viewCount > 0 || parentBinding != null) {
+      MethodSpec.Builder viewCountMethod = MethodSpec.methodBuilder("viewCount")
+          .addAnnotation(Override.class)
+          .addModifiers(PUBLIC)
+          .returns(int.class);
+      if (parentBinding == null) {
+        viewCountMethod.addStatement("return $L", viewCount);
+      } else if (viewCount == 0) {
+        viewCountMethod.addStatement("return $T.FACTORY.viewCount()",
+            parentBinding.getBindingClassName());
+      } else {
+        viewCountMethod.addStatement("return $L + $T.FACTORY.viewCount()", viewCount,
+            parentBinding.getBindingClassName());
+      }
+      factory.addMethod(viewCountMethod.build());
+    }
+
+    return FieldSpec.builder(BINDING_FACTORY, "FACTORY", PUBLIC, STATIC, FINAL)
+        .initializer("$L", factory.build())
+        .build();
+  }
+
+  /** The container of the views in {@code source}, when the target declares one. */
+  private CodeBlock rootedSource(CodeBlock source) {
+    if (rootId == null) {
+      return source;
+    }
+    return CodeBlock.of("$T.findRoot($L, $L)", UTILS, source, rootId.code);
+  }
+
+  /** The number of views looked up by ID in the binding constructor, excluding superclasses. */
+  private int viewLookupCount() {
+    int count = 0;
+    for (ViewBinding binding : viewBindings) {
+      if (!binding.isBoundToRoot() && !binding.isLazyFieldBinding()) {
+        count++;
+      }
+    }
+    for (FieldCollectionViewBinding binding : collectionBindings) {
+      count += binding.getIds().size();
+    }
+    return count;
+  }
+
   private MethodSpec createBindingViewDelegateConstructor() {
     return MethodSpec.constructorBuilder()
         .addJavadoc("@deprecated Use {@link #$T($T, $T)} for direct creation.\n    "
@@ -159,7 +306,7 @@ final class BindingSet implements BindingInformationProvider {
         .addModifiers(PUBLIC)
         .addParameter(targetTypeName, "target");
     if (constructorNeedsView()) {
-      builder.addStatement("this(target, target)");
+      builder.addStatement("this(target, $L)", rootedSource(CodeBlock.of("target")));
     } else {
       builder.addStatement("this(target, target.getContext())");
     }
@@ -172,7 +319,8 @@ final class BindingSet implements BindingInformationProvider {
         .addModifiers(PUBLIC)
         .addParameter(targetTypeName, "target");
     if (constructorNeedsView()) {
-      builder.addStatement("this(target, target.getWindow().getDecorView())");
+      builder.addStatement("this(target, $L)",
+          rootedSource(CodeBlock.of("target.getWindow().getDecorView()")));
     } else {
       builder.addStatement("this(target, target)");
     }
@@ -185,19 +333,36 @@ final class BindingSet implements BindingInformationProvider {
         .addModifiers(PUBLIC)
         .addParameter(targetTypeName, "target");
     if (constructorNeedsView()) {
-      builder.addStatement("this(target, target.getWindow().getDecorView())");
+      builder.addStatement("this(target, $L)",
+          rootedSource(CodeBlock.of("target.getWindow().getDecorView()")));
     } else {
       builder.addStatement("this(target, target.getContext())");
     }
     return builder.build();
   }
 
-  private MethodSpec createBindingConstructor(int sdk, boolean debuggable) {
+  /** Find the views of this binding and its fused superclass bindings for them to share. */
+  private MethodSpec createBindingFusingConstructor() {
+    CodeBlock.Builder ids = CodeBlock.builder();
+    for (Id id : getFusedIds()) {
+      ids.add(", \n$L", id.code);
+    }
+    return MethodSpec.constructorBuilder()
+        .addAnnotation(UI_THREAD)
+        .addModifiers(PUBLIC)
+        .addParameter(targetTypeName, "target")
+        .addParameter(VIEW, "source")
+        .addStatement("this(target, source, $T.find(source$L))", VIEW_TABLE, ids.build())
+        .build();
+  }
+
+  private MethodSpec createBindingConstructor(int sdk, boolean debuggable, BindingOptions options,
+      boolean fused, List<FieldResourceBinding> snapshotBindings) {
     MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
         .addAnnotation(UI_THREAD)
-        .addModifiers(PUBLIC);
+        .addModifiers(fused ? (isFinal ? PRIVATE : PROTECTED) : PUBLIC);
 
-    if (hasMethodBindings()) {
+    if (hasMethodBindings() || (hasAsyncResourceBindings() && !options.staticBind)) {
       constructor.addParameter(targetTypeName, "target", FINAL);
     } else {
       constructor.addParameter(targetTypeName, "target");
@@ -208,8 +373,11 @@ final class BindingSet implements BindingInformationProvider {
     } else {
       constructor.addParameter(CONTEXT, "context");
     }
+    if (fused) {
+      constructor.addParameter(VIEW_TABLE, "views");
+    }
 
-    if (hasUnqualifiedResourceBindings()) {
+    if (hasUnqualifiedResourceBindings() && !options.staticBind) {
       // Aapt can change IDs out from underneath us, just suppress since all will work at runtime.
       constructor.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
           .addMember("value", "$S", "ResourceType")
@@ -223,7 +391,9 @@ final class BindingSet implements BindingInformationProvider {
     }
 
     if (parentBinding != null) {
-      if (parentBinding.constructorNeedsView()) {
+      if (fused && getFusedParent() != null) {
+        constructor.addStatement("super(target, source, views)");
+      } else if (parentBinding.constructorNeedsView()) {
         constructor.addStatement("super(target, source)");
       } else if (constructorNeedsView()) {
         constructor.addStatement("super(target, source.getContext())");
@@ -237,39 +407,220 @@ final class BindingSet implements BindingInformationProvider {
       constructor.addCode("\n");
     }
 
+    if (options.staticBind) {
+      constructor.addStatement("bind(target, $N)", constructorNeedsView() ? "source" : "context");
+    } else {
+      addBindings(constructor, sdk, debuggable, options, fused, snapshotBindings);
+    }
+    return constructor.build();
+  }
+
+  private MethodSpec createStaticBindMethod(int sdk, boolean debuggable, BindingOptions options,
+      List<FieldResourceBinding> snapshotBindings) {
+    MethodSpec.Builder result = MethodSpec.methodBuilder("bind")
+        .addAnnotation(UI_THREAD)
+        .addModifiers(PUBLIC, STATIC);
+    if (hasAsyncResourceBindings()) {
+      result.addParameter(targetTypeName, "target", FINAL);
+    } else {
+      result.addParameter(targetTypeName, "target");
+    }
+    if (constructorNeedsView()) {
+      result.addParameter(VIEW, "source");
+    } else {
+      result.addParameter(CONTEXT, "context");
+    }
+
+    if (hasUnqualifiedResourceBindings()) {
+      // Aapt can change IDs out from underneath us, just suppress since all will work at runtime.
+      result.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+          .addMember("value", "$S", "ResourceType")
+          .build());
+    }
+
+    addBindings(result, sdk, debuggable, options, false, snapshotBindings);
+    return result.build();
+  }
+
+  private void addBindings(MethodSpec.Builder result, int sdk, boolean debuggable,
+      BindingOptions options, boolean fused, List<FieldResourceBinding> snapshotBindings) {
     if (hasViewBindings()) {
-      if (hasViewLocal()) {
-        // Local variable in which all views will be temporarily stored.
-        constructor.addStatement("$T view", VIEW);
-      }
-      for (ViewBinding binding : viewBindings) {
-        addViewBinding(constructor, binding, debuggable);
+      if (options.rebind) {
+        // Listeners are created once and kept so that rebind() can move them onto new views.
+        for (ViewBinding binding : viewBindings) {
+          addListenerFieldInitializers(result, binding, debuggable);
+        }
+        result.addStatement("bindViews(target, source)");
+      } else {
+        addViewBindings(result, debuggable, options, fused);
       }
-      for (FieldCollectionViewBinding binding : collectionBindings) {
-        constructor.addStatement("$L", binding.render(debuggable));
+      if (options.deferListeners) {
+        // Views are found and recorded now but their listeners wait for the first frame.
+        result.addCode("\n");
+        result.addStatement("pendingListeners = $L", TypeSpec.anonymousClassBuilder("")
+            .superclass(Runnable.class)
+            .addMethod(MethodSpec.methodBuilder("run")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addStatement("attachListeners(target)")
+                .build())
+            .build());
+        result.addStatement("$T.enqueue(pendingListeners)", LISTENER_QUEUE);
       }
 
       if (!resourceBindings.isEmpty()) {
-        constructor.addCode("\n");
+        result.addCode("\n");
       }
     }
 
     if (!resourceBindings.isEmpty()) {
       if (constructorNeedsView()) {
-        constructor.addStatement("$T context = source.getContext()", CONTEXT);
+        result.addStatement("$T context = source.getContext()", CONTEXT);
       }
-      if (hasResourceBindingsNeedingResource(sdk)) {
-        constructor.addStatement("$T res = context.getResources()", RESOURCES);
+      if (hasResourceBindingsNeedingResource(sdk) || !snapshotBindings.isEmpty()) {
+        result.addStatement("$T res = context.getResources()", RESOURCES);
+      }
+      if (!snapshotBindings.isEmpty()) {
+        addResourceSnapshot(result, sdk, snapshotBindings);
       }
       for (ResourceBinding binding : resourceBindings) {
-        constructor.addStatement("$L", binding.render(sdk));
+        int index = snapshotBindings.indexOf(binding);
+        if (index != -1) {
+          result.addStatement("$L", ((FieldResourceBinding) binding).renderFromSnapshot(
+              snapshotIndex(snapshotBindings, index)));
+        } else {
+          result.addStatement("$L", binding.render(sdk));
+        }
       }
     }
+  }
 
-    return constructor.build();
+  /**
+   * Load the values of {@code snapshotBindings} into a new snapshot unless the one left by an
+   * earlier bind is still valid for the current configuration.
+   */
+  private void addResourceSnapshot(MethodSpec.Builder result, int sdk,
+      List<FieldResourceBinding> snapshotBindings) {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    for (String array : Arrays.asList("ints", "floats", "booleans", "strings")) {
+      counts.put(array, 0);
+    }
+    for (FieldResourceBinding binding : snapshotBindings) {
+      counts.put(binding.snapshotArray(), counts.get(binding.snapshotArray()) + 1);
+    }
+    result.addStatement("$T snapshot = resourceSnapshot", RESOURCE_SNAPSHOT);
+    result.beginControlFlow("if (snapshot == null || !snapshot.isValidFor(res))");
+    result.addStatement("snapshot = new $T(res, $L, $L, $L, $L)", RESOURCE_SNAPSHOT,
+        counts.get("ints"), counts.get("floats"), counts.get("booleans"), counts.get("strings"));
+    for (int i = 0, count = snapshotBindings.size(); i < count; i++) {
+      result.addStatement("$L", snapshotBindings.get(i)
+          .renderIntoSnapshot(sdk, snapshotIndex(snapshotBindings, i)));
+    }
+    result.addStatement("resourceSnapshot = snapshot");
+    result.endControlFlow();
   }
 
-  private MethodSpec createBindingUnbindMethod(TypeSpec.Builder bindingClass) {
+  /** The slot of {@code snapshotBindings[index]} in its snapshot array. */
+  private static int snapshotIndex(List<FieldResourceBinding> snapshotBindings, int index) {
+    String array = snapshotBindings.get(index).snapshotArray();
+    int slot = 0;
+    for (int i = 0; i < index; i++) {
+      if (array.equals(snapshotBindings.get(i).snapshotArray())) {
+        slot++;
+      }
+    }
+    return slot;
+  }
+
+  /** Resource bindings whose values can be shared by binds through a {@code ResourceSnapshot}. */
+  private List<FieldResourceBinding> getSnapshotBindings() {
+    List<FieldResourceBinding> bindings = new ArrayList<>();
+    for (ResourceBinding binding : resourceBindings) {
+      if (binding instanceof FieldResourceBinding
+          && ((FieldResourceBinding) binding).snapshotArray() != null) {
+        bindings.add((FieldResourceBinding) binding);
+      }
+    }
+    return bindings;
+  }
+
+  private MethodSpec createBindViewsMethod(boolean debuggable, BindingOptions options) {
+    MethodSpec.Builder result = MethodSpec.methodBuilder("bindViews")
+        .addModifiers(PRIVATE)
+        .addParameter(targetTypeName, "target")
+        .addParameter(VIEW, "source");
+
+    if (hasOnTouchMethodBindings()) {
+      result.addAnnotation(AnnotationSpec.builder(SUPPRESS_LINT)
+          .addMember("value", "$S", "ClickableViewAccessibility")
+          .build());
+    }
+
+    addViewBindings(result, debuggable, options, false);
+    return result.build();
+  }
+
+  private MethodSpec createAttachListenersMethod(boolean debuggable, BindingOptions options) {
+    MethodSpec.Builder result = MethodSpec.methodBuilder("attachListeners")
+        .addAnnotation(UI_THREAD)
+        .addModifiers(PRIVATE)
+        .addParameter(targetTypeName, "target", FINAL);
+
+    if (hasOnTouchMethodBindings()) {
+      result.addAnnotation(AnnotationSpec.builder(SUPPRESS_LINT)
+          .addMember("value", "$S", "ClickableViewAccessibility")
+          .build());
+    }
+
+    if (options.sharedListeners) {
+      addSharedListeners(result, debuggable);
+    }
+    for (ViewBinding binding : viewBindings) {
+      if (binding.getMethodBindings().isEmpty()) {
+        continue;
+      }
+      String fieldName = viewFieldName(binding);
+      // Recorded by the constructor only when found, unless a required binding ensured it was.
+      boolean needsNullChecked = binding.getRequiredBindings().isEmpty();
+      if (needsNullChecked) {
+        result.beginControlFlow("if ($N != null)", fieldName);
+      }
+      addListeners(result, binding, fieldName, fieldName, debuggable, options);
+      if (needsNullChecked) {
+        result.endControlFlow();
+      }
+    }
+    return result.build();
+  }
+
+  /**
+   * Find and bind the views. When {@code fused} is true they come from the {@code views} table
+   * which the constructor received.
+   */
+  private void addViewBindings(MethodSpec.Builder result, boolean debuggable,
+      BindingOptions options, boolean fused) {
+    if (options.sharedListeners && !options.deferListeners) {
+      addSharedListeners(result, debuggable);
+    }
+    if (hasViewLocal()) {
+      // Local variable in which all views will be temporarily stored.
+      result.addStatement("$T view", VIEW);
+    }
+    // A single lookup is no cheaper from a table.
+    boolean fromTable = fused || (options.singlePass && viewLookupCount() > 1);
+    if (fromTable && !fused) {
+      addViewTable(result);
+    }
+    for (ViewBinding binding : viewBindings) {
+      addViewBinding(result, binding, debuggable, fromTable, options);
+    }
+    for (FieldCollectionViewBinding binding : collectionBindings) {
+      result.addStatement("$L", binding.render(debuggable, fromTable));
+    }
+  }
+
+  private MethodSpec createBindingUnbindMethod(TypeSpec.Builder bindingClass,
+      BindingOptions options) {
     MethodSpec.Builder result = MethodSpec.methodBuilder("unbind")
         .addAnnotation(Override.class)
         .addModifiers(PUBLIC);
@@ -297,8 +648,12 @@ final class BindingSet implements BindingInformationProvider {
 
     if (hasMethodBindings()) {
       result.addCode("\n");
+      if (options.deferListeners) {
+        // Attach listeners still waiting for a frame so that they are removed like the others.
+        result.addStatement("$T.flush(pendingListeners)", LISTENER_QUEUE);
+      }
       for (ViewBinding binding : viewBindings) {
-        addFieldAndUnbindStatement(bindingClass, result, binding);
+        addFieldAndUnbindStatement(bindingClass, result, binding, options.rebind);
       }
     }
 
@@ -309,8 +664,39 @@ final class BindingSet implements BindingInformationProvider {
     return result.build();
   }
 
+  private MethodSpec createBindingRebindMethod() {
+    MethodSpec.Builder result = MethodSpec.methodBuilder("rebind")
+        .addAnnotation(Override.class)
+        .addModifiers(PUBLIC)
+        .addParameter(VIEW, "source");
+    if (!isFinal && parentBinding == null) {
+      result.addAnnotation(CALL_SUPER);
+    }
+    result.addAnnotation(UI_THREAD);
+
+    if (parentBinding != null) {
+      result.addStatement("super.rebind(source)");
+      result.addCode("\n");
+    }
+
+    if (hasViewBindings()) {
+      result.addStatement("$T target = this.target", targetTypeName);
+      result.addStatement("if (target == null) throw new $T($S)", IllegalStateException.class,
+          "Bindings already cleared.");
+      if (hasMethodBindings()) {
+        result.addCode("\n");
+        for (ViewBinding binding : viewBindings) {
+          addRemoveListenerStatements(result, binding, false, true);
+        }
+      }
+      result.addCode("\n");
+      result.addStatement("bindViews(target, source)");
+    }
+    return result.build();
+  }
+
   private void addFieldAndUnbindStatement(TypeSpec.Builder result, MethodSpec.Builder unbindMethod,
-      ViewBinding bindings) {
+      ViewBinding bindings, boolean rebind) {
     // Only add fields to the binding if there are method bindings.
     Map<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> classMethodBindings =
         bindings.getMethodBindings();
@@ -318,57 +704,172 @@ final class BindingSet implements BindingInformationProvider {
       return;
     }
 
-    String fieldName =
-        bindings.isBoundToRoot()
-            ? "viewSource"
-            : "view" + Integer.toHexString(bindings.getId().value);
+    String fieldName = viewFieldName(bindings);
     result.addField(VIEW, fieldName, PRIVATE);
 
+    for (ListenerClass listenerClass : classMethodBindings.keySet()) {
+      // We need to keep a reference to the listener in case we need to unbind it via a remove
+      // method or move it onto another view.
+      if (rebind || requiresRemoval(listenerClass)) {
+        result.addField(bestGuess(listenerClass.type()), listenerFieldName(fieldName, listenerClass),
+            PRIVATE);
+      }
+
+      // Coalesced callbacks record their latest arguments until the next frame delivers them.
+      for (Map.Entry<ListenerMethod, Set<MethodViewBinding>> e
+          : classMethodBindings.get(listenerClass).entrySet()) {
+        Set<MethodViewBinding> coalesced = getCoalescedBindings(e.getValue());
+        if (!coalesced.isEmpty()) {
+          ListenerMethod method = e.getKey();
+          String coalescerField = coalescerFieldName(fieldName, method);
+          result.addField(FRAME_COALESCER, coalescerField, PRIVATE);
+          for (int position : getCoalescedPositions(coalesced)) {
+            result.addField(bestGuess(method.parameters()[position]),
+                coalescerField + "P" + position, PRIVATE);
+          }
+        }
+      }
+    }
+
+    addRemoveListenerStatements(unbindMethod, bindings, true, rebind);
+  }
+
+  /**
+   * Remove the listeners of {@code bindings} from its view and clear the view field. Listener
+   * fields are only cleared when {@code clearListenerFields} is true.
+   */
+  private void addRemoveListenerStatements(MethodSpec.Builder result, ViewBinding bindings,
+      boolean clearListenerFields, boolean rebind) {
+    Map<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> classMethodBindings =
+        bindings.getMethodBindings();
+    if (classMethodBindings.isEmpty()) {
+      return;
+    }
+
+    String fieldName = viewFieldName(bindings);
+
     // We only need to emit the null check if there are zero required bindings.
     boolean needsNullChecked = bindings.getRequiredBindings().isEmpty();
     if (needsNullChecked) {
-      unbindMethod.beginControlFlow("if ($N != null)", fieldName);
+      result.beginControlFlow("if ($N != null)", fieldName);
     }
 
     for (ListenerClass listenerClass : classMethodBindings.keySet()) {
-      // We need to keep a reference to the listener
-      // in case we need to unbind it via a remove method.
-      boolean requiresRemoval = !"".equals(listenerClass.remover());
-      String listenerField = "null";
-      if (requiresRemoval) {
-        TypeName listenerClassName = bestGuess(listenerClass.type());
-        listenerField = fieldName + ((ClassName) listenerClassName).simpleName();
-        result.addField(listenerClassName, listenerField, PRIVATE);
-      }
+      boolean requiresRemoval = requiresRemoval(listenerClass);
+      String listenerField = listenerFieldName(fieldName, listenerClass);
 
       String targetType = listenerClass.targetType();
       if (!VIEW_TYPE.equals(targetType)) {
-        unbindMethod.addStatement("(($T) $N).$N($N)", bestGuess(targetType),
-            fieldName, removerOrSetter(listenerClass, requiresRemoval), listenerField);
+        result.addStatement("(($T) $N).$N($N)", bestGuess(targetType),
+            fieldName, removerOrSetter(listenerClass, requiresRemoval),
+            requiresRemoval ? listenerField : "null");
       } else {
-        unbindMethod.addStatement("$N.$N($N)", fieldName,
-            removerOrSetter(listenerClass, requiresRemoval), listenerField);
+        result.addStatement("$N.$N($N)", fieldName,
+            removerOrSetter(listenerClass, requiresRemoval),
+            requiresRemoval ? listenerField : "null");
       }
 
-      if (requiresRemoval) {
-        unbindMethod.addStatement("$N = null", listenerField);
+      if (clearListenerFields && (rebind || requiresRemoval)) {
+        result.addStatement("$N = null", listenerField);
+      }
+      if (clearListenerFields) {
+        for (ListenerMethod method : getCoalescedMethods(classMethodBindings.get(listenerClass))) {
+          String coalescerField = coalescerFieldName(fieldName, method);
+          result.addStatement("$N.cancel()", coalescerField);
+          result.addStatement("$N = null", coalescerField);
+        }
       }
     }
 
-    unbindMethod.addStatement("$N = null", fieldName);
+    result.addStatement("$N = null", fieldName);
 
     if (needsNullChecked) {
-      unbindMethod.endControlFlow();
+      result.endControlFlow();
     }
   }
 
+  private static String viewFieldName(ViewBinding binding) {
+    return binding.isBoundToRoot()
+        ? "viewSource"
+        : "view" + Integer.toHexString(binding.getId().value);
+  }
+
+  private static String listenerFieldName(String viewFieldName, ListenerClass listenerClass) {
+    return viewFieldName + ((ClassName) bestGuess(listenerClass.type())).simpleName();
+  }
+
+  private static boolean requiresRemoval(ListenerClass listenerClass) {
+    return !"".equals(listenerClass.remover());
+  }
+
   private String removerOrSetter(ListenerClass listenerClass, boolean requiresRemoval) {
     return requiresRemoval
         ? listenerClass.remover()
         : listenerClass.setter();
   }
 
-  private void addViewBinding(MethodSpec.Builder result, ViewBinding binding, boolean debuggable) {
+  /** Find every view looked up by this binding in a single traversal of the source. */
+  private void addViewTable(MethodSpec.Builder result) {
+    CodeBlock.Builder builder = CodeBlock.builder()
+        .add("$T views = $T.find(source", VIEW_TABLE, VIEW_TABLE);
+    for (Id id : getLookupIds()) {
+      builder.add(", \n$L", id.code);
+    }
+    result.addStatement("$L", builder.add(")").build());
+  }
+
+  /** IDs of the views which are looked up by this binding, excluding superclasses. */
+  private Set<Id> getLookupIds() {
+    Set<Id> ids = new LinkedHashSet<>();
+    for (ViewBinding binding : viewBindings) {
+      if (!binding.isBoundToRoot() && !binding.isLazyFieldBinding()) {
+        ids.add(binding.getId());
+      }
+    }
+    for (FieldCollectionViewBinding binding : collectionBindings) {
+      ids.addAll(binding.getIds());
+    }
+    return ids;
+  }
+
+  /** IDs of the views looked up by this binding and its fused superclass bindings. */
+  private Set<Id> getFusedIds() {
+    Set<Id> ids = new LinkedHashSet<>();
+    BindingSet fusedParent = getFusedParent();
+    if (fusedParent != null) {
+      ids.addAll(fusedParent.getFusedIds());
+    }
+    ids.addAll(getLookupIds());
+    return ids;
+  }
+
+  /**
+   * The superclass binding when it is generated along with this one, and so can take the views
+   * it needs from a table found for the whole hierarchy.
+   */
+  private @Nullable BindingSet getFusedParent() {
+    if (parentBinding instanceof BindingSet && parentBinding.constructorNeedsView()) {
+      return (BindingSet) parentBinding;
+    }
+    return null;
+  }
+
+  /** Whether this binding shares its view lookups with a superclass or subclass binding. */
+  private boolean isFused() {
+    return constructorNeedsView() && (hasSubclassBinding || getFusedParent() != null);
+  }
+
+  private void addViewBinding(MethodSpec.Builder result, ViewBinding binding, boolean debuggable,
+      boolean fromTable, BindingOptions options) {
+    String finder = fromTable ? "views" : "source";
+    if (binding.isLazyFieldBinding()) {
+      // The lookup is deferred to the first call to get() so it never comes from the table.
+      FieldViewBinding fieldBinding = requireNonNull(binding.getFieldBinding());
+      result.addStatement("target.$L = $T.$L(source, $L, $S, $T.class)", fieldBinding.getName(),
+          LAZY_VIEW, fieldBinding.isRequired() ? "required" : "optional", binding.getId().code,
+          asHumanDescription(singletonList(fieldBinding)), fieldBinding.getRawType());
+      return;
+    }
     if (binding.isSingleFieldBinding()) {
       // Optimize the common case where there's a single binding directly to a field.
       FieldViewBinding fieldBinding = requireNonNull(binding.getFieldBinding());
@@ -380,14 +881,18 @@ final class BindingSet implements BindingInformationProvider {
         if (requiresCast) {
           builder.add("($T) ", fieldBinding.getType());
         }
-        builder.add("source.findViewById($L)", binding.getId().code);
+        builder.add("$L.findViewById($L)", finder, binding.getId().code);
       } else {
-        builder.add("$T.find", UTILS);
+        if (fromTable) {
+          builder.add("views.find");
+        } else {
+          builder.add("$T.find", UTILS);
+        }
         builder.add(fieldBinding.isRequired() ? "RequiredView" : "OptionalView");
         if (requiresCast) {
           builder.add("AsType");
         }
-        builder.add("(source, $L", binding.getId().code);
+        builder.add(fromTable ? "($L" : "(source, $L", binding.getId().code);
         if (fieldBinding.isRequired() || requiresCast) {
           builder.add(", $S", asHumanDescription(singletonList(fieldBinding)));
         }
@@ -402,36 +907,45 @@ final class BindingSet implements BindingInformationProvider {
 
     List<MemberViewBinding> requiredBindings = binding.getRequiredBindings();
     if (!debuggable || requiredBindings.isEmpty()) {
-      result.addStatement("view = source.findViewById($L)", binding.getId().code);
+      result.addStatement("view = $L.findViewById($L)", finder, binding.getId().code);
     } else if (!binding.isBoundToRoot()) {
-      result.addStatement("view = $T.findRequiredView(source, $L, $S)", UTILS,
-          binding.getId().code, asHumanDescription(requiredBindings));
+      if (fromTable) {
+        result.addStatement("view = views.findRequiredView($L, $S)", binding.getId().code,
+            asHumanDescription(requiredBindings));
+      } else {
+        result.addStatement("view = $T.findRequiredView(source, $L, $S)", UTILS,
+            binding.getId().code, asHumanDescription(requiredBindings));
+      }
     }
 
     addFieldBinding(result, binding, debuggable);
-    addMethodBindings(result, binding, debuggable);
+    addMethodBindings(result, binding, debuggable, options);
   }
 
   private void addFieldBinding(MethodSpec.Builder result, ViewBinding binding, boolean debuggable) {
     FieldViewBinding fieldBinding = binding.getFieldBinding();
     if (fieldBinding != null) {
+      CodeBlock view;
       if (requiresCast(fieldBinding.getType())) {
         if (debuggable) {
-          result.addStatement("target.$L = $T.castView(view, $L, $S, $T.class)",
-              fieldBinding.getName(), UTILS, binding.getId().code,
+          view = CodeBlock.of("$T.castView(view, $L, $S, $T.class)", UTILS, binding.getId().code,
               asHumanDescription(singletonList(fieldBinding)), fieldBinding.getRawType());
         } else {
-          result.addStatement("target.$L = ($T) view", fieldBinding.getName(),
-              fieldBinding.getType());
+          view = CodeBlock.of("($T) view", fieldBinding.getType());
         }
       } else {
-        result.addStatement("target.$L = view", fieldBinding.getName());
+        view = CodeBlock.of("view");
+      }
+      if (fieldBinding.isLazy()) {
+        // The view was already looked up for the other bindings of its ID.
+        view = CodeBlock.of("$T.of($L)", LAZY_VIEW, view);
       }
+      result.addStatement("target.$L = $L", fieldBinding.getName(), view);
     }
   }
 
   private void addMethodBindings(MethodSpec.Builder result, ViewBinding binding,
-      boolean debuggable) {
+      boolean debuggable, BindingOptions options) {
     Map<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> classMethodBindings =
         binding.getMethodBindings();
     if (classMethodBindings.isEmpty()) {
@@ -445,97 +959,426 @@ final class BindingSet implements BindingInformationProvider {
     }
 
     // Add the view reference to the binding.
-    String fieldName = "viewSource";
-    String bindName = "source";
-    if (!binding.isBoundToRoot()) {
-      fieldName = "view" + Integer.toHexString(binding.getId().value);
-      bindName = "view";
-    }
+    String fieldName = viewFieldName(binding);
+    String bindName = binding.isBoundToRoot() ? "source" : "view";
     result.addStatement("$L = $N", fieldName, bindName);
 
+    if (!options.deferListeners) {
+      addListeners(result, binding, fieldName, bindName, debuggable, options);
+    }
+
+    if (needsNullChecked) {
+      result.endControlFlow();
+    }
+  }
+
+  /** Set the listeners of {@code binding} on the view named {@code bindName}. */
+  private void addListeners(MethodSpec.Builder result, ViewBinding binding, String fieldName,
+      String bindName, boolean debuggable, BindingOptions options) {
     for (Map.Entry<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> e
-        : classMethodBindings.entrySet()) {
+        : binding.getMethodBindings().entrySet()) {
       ListenerClass listener = e.getKey();
-      Map<ListenerMethod, Set<MethodViewBinding>> methodBindings = e.getValue();
 
-      TypeSpec.Builder callback = TypeSpec.anonymousClassBuilder("")
-          .superclass(ClassName.bestGuess(listener.type()));
+      Object callback;
+      if (options.sharedListeners && isShared(listener, binding)) {
+        callback = sharedListenerName(listener, getDebounce(binding, listener));
+      } else if (options.rebind) {
+        // Created once by the constructor so that rebinding moves the same instance.
+        callback = listenerFieldName(fieldName, listener);
+      } else if (requiresRemoval(listener)) {
+        addCoalescerInitializers(result, fieldName, e.getValue(), debuggable);
+        callback = listenerFieldName(fieldName, listener);
+        result.addStatement("$L = $L", callback,
+            createListener(listener, fieldName, e.getValue(), debuggable));
+      } else {
+        addCoalescerInitializers(result, fieldName, e.getValue(), debuggable);
+        callback = createListener(listener, fieldName, e.getValue(), debuggable);
+      }
 
-      for (ListenerMethod method : getListenerMethods(listener)) {
-        MethodSpec.Builder callbackMethod = MethodSpec.methodBuilder(method.name())
-            .addAnnotation(Override.class)
-            .addModifiers(PUBLIC)
-            .returns(bestGuess(method.returnType()));
-        String[] parameterTypes = method.parameters();
-        for (int i = 0, count = parameterTypes.length; i < count; i++) {
-          callbackMethod.addParameter(bestGuess(parameterTypes[i]), "p" + i);
-        }
+      String targetType = listener.targetType();
+      if (!VIEW_TYPE.equals(targetType)) {
+        result.addStatement("(($T) $N).$L($L)", bestGuess(targetType), bindName,
+            listener.setter(), callback);
+      } else {
+        result.addStatement("$N.$L($L)", bindName, listener.setter(), callback);
+      }
+    }
+  }
 
-        boolean hasReturnValue = false;
-        CodeBlock.Builder builder = CodeBlock.builder();
-        Set<MethodViewBinding> methodViewBindings = methodBindings.get(method);
-        if (methodViewBindings != null) {
-          for (MethodViewBinding methodBinding : methodViewBindings) {
-            if (methodBinding.hasReturnValue()) {
-              hasReturnValue = true;
-              builder.add("return "); // TODO what about multiple methods?
-            }
-            builder.add("target.$L(", methodBinding.getName());
-            List<Parameter> parameters = methodBinding.getParameters();
-            String[] listenerParameters = method.parameters();
-            for (int i = 0, count = parameters.size(); i < count; i++) {
-              if (i > 0) {
-                builder.add(", ");
-              }
-
-              Parameter parameter = parameters.get(i);
-              int listenerPosition = parameter.getListenerPosition();
-
-              if (parameter.requiresCast(listenerParameters[listenerPosition])) {
-                if (debuggable) {
-                  builder.add("$T.castParam(p$L, $S, $L, $S, $L, $T.class)", UTILS,
-                      listenerPosition, method.name(), listenerPosition, methodBinding.getName(), i,
-                      parameter.getType());
-                } else {
-                  builder.add("($T) p$L", parameter.getType(), listenerPosition);
-                }
-              } else {
-                builder.add("p$L", listenerPosition);
-              }
-            }
-            builder.add(");\n");
+  /** Declare a local for each listener shared by the views bound to it. */
+  private void addSharedListeners(MethodSpec.Builder result, boolean debuggable) {
+    Set<ListenerClass> listeners = new LinkedHashSet<>();
+    for (ViewBinding binding : viewBindings) {
+      listeners.addAll(binding.getMethodBindings().keySet());
+    }
+    for (ListenerClass listener : listeners) {
+      for (Map.Entry<Long, List<ViewBinding>> e : getSharedListenerBindings(listener).entrySet()) {
+        long debounce = e.getKey();
+        result.addStatement("$T $N = $L", bestGuess(listener.type()),
+            sharedListenerName(listener, debounce),
+            createSharedListener(listener, debounce, e.getValue(), debuggable));
+        result.addCode("\n");
+      }
+    }
+  }
+
+  /** Whether the {@code listener} of {@code binding} is one which it shares with other views. */
+  private boolean isShared(ListenerClass listener, ViewBinding binding) {
+    List<ViewBinding> bindings =
+        getSharedListenerBindings(listener).get(getDebounce(binding, listener));
+    return bindings != null && bindings.contains(binding);
+  }
+
+  /**
+   * The views which share an instance of {@code listener}, grouped by the debounce interval of
+   * that instance. Each listener method must receive the view so that it can dispatch on the ID,
+   * and nothing is gained for a single view.
+   */
+  private Map<Long, List<ViewBinding>> getSharedListenerBindings(ListenerClass listener) {
+    Map<Long, List<ViewBinding>> groups = new LinkedHashMap<>();
+    if (requiresRemoval(listener)) {
+      return groups;
+    }
+    for (ListenerMethod method : getListenerMethods(listener)) {
+      String[] parameters = method.parameters();
+      if (parameters.length == 0 || !parameters[0].equals(listener.targetType())) {
+        return groups;
+      }
+    }
+    for (ViewBinding binding : viewBindings) {
+      // The ID of the root view is not known so it keeps a listener of its own.
+      if (!binding.isBoundToRoot() && binding.getMethodBindings().containsKey(listener)) {
+        groups.computeIfAbsent(getDebounce(binding, listener), k -> new ArrayList<>())
+            .add(binding);
+      }
+    }
+    groups.values().removeIf(bindings -> bindings.size() < 2);
+    return groups;
+  }
+
+  /** The listener name, suffixed by the debounce interval of all but the default instance. */
+  private static String sharedListenerName(ListenerClass listener, long debounce) {
+    String name = listener.setter().replaceFirst("^[a-z]+", "");
+    name = Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    return debounce > 0 ? name + debounce : name;
+  }
+
+  private void addListenerFieldInitializers(MethodSpec.Builder result, ViewBinding binding,
+      boolean debuggable) {
+    String fieldName = viewFieldName(binding);
+    for (Map.Entry<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> e
+        : binding.getMethodBindings().entrySet()) {
+      ListenerClass listener = e.getKey();
+      addCoalescerInitializers(result, fieldName, e.getValue(), debuggable);
+      result.addStatement("$L = $L", listenerFieldName(fieldName, listener),
+          createListener(listener, fieldName, e.getValue(), debuggable));
+    }
+  }
+
+  /**
+   * Create a {@code FrameCoalescer} for each listener method with coalesced bindings. Its delivery
+   * calls those bindings with the arguments which the listener recorded last.
+   */
+  private void addCoalescerInitializers(MethodSpec.Builder result, String fieldName,
+      Map<ListenerMethod, Set<MethodViewBinding>> methodBindings, boolean debuggable) {
+    for (ListenerMethod method : getCoalescedMethods(methodBindings)) {
+      String coalescerField = coalescerFieldName(fieldName, method);
+      CodeBlock.Builder builder = CodeBlock.builder();
+      addMethodCalls(builder, method, getCoalescedBindings(methodBindings.get(method)), debuggable,
+          coalescerField + "P");
+      TypeSpec coalescer = TypeSpec.anonymousClassBuilder("")
+          .superclass(FRAME_COALESCER)
+          .addMethod(MethodSpec.methodBuilder("deliver")
+              .addAnnotation(Override.class)
+              .addModifiers(PUBLIC)
+              .addCode(builder.build())
+              .build())
+          .build();
+      result.addStatement("$N = $L", coalescerField, coalescer);
+    }
+  }
+
+  private TypeSpec createListener(ListenerClass listener, String fieldName,
+      Map<ListenerMethod, Set<MethodViewBinding>> methodBindings, boolean debuggable) {
+    Collection<Set<MethodViewBinding>> allMethodBindings = methodBindings.values();
+    TypeSpec.Builder callback = createListenerBuilder(listener, getDebounce(allMethodBindings),
+        getChildIds(allMethodBindings));
+
+    for (ListenerMethod method : getListenerMethods(listener)) {
+      MethodSpec.Builder callbackMethod = createListenerMethodBuilder(method);
+      CodeBlock.Builder builder = CodeBlock.builder();
+      boolean hasReturnValue = false;
+      Set<MethodViewBinding> methodViewBindings = methodBindings.get(method);
+      if (methodViewBindings != null) {
+        Set<MethodViewBinding> coalesced = getCoalescedBindings(methodViewBindings);
+        if (!coalesced.isEmpty()) {
+          Set<MethodViewBinding> direct = new LinkedHashSet<>(methodViewBindings);
+          direct.removeAll(coalesced);
+          hasReturnValue = addMethodCalls(builder, method, direct, debuggable);
+
+          String coalescerField = coalescerFieldName(fieldName, method);
+          for (int position : getCoalescedPositions(coalesced)) {
+            builder.addStatement("$N = p$L", coalescerField + "P" + position, position);
           }
+          builder.addStatement("$N.schedule()", coalescerField);
+        } else if (getChildIds(singletonList(methodViewBindings)).isEmpty()) {
+          hasReturnValue = addMethodCalls(builder, method, methodViewBindings, debuggable);
+        } else {
+          // Each method is only called for the child views of its own IDs.
+          addIdDispatch(builder, method, getChildIdCases(methodViewBindings), debuggable);
         }
+      }
 
-        if (!"void".equals(method.returnType()) && !hasReturnValue) {
-          builder.add("return $L;\n", method.defaultReturn());
+      if (!"void".equals(method.returnType()) && !hasReturnValue) {
+        builder.add("return $L;\n", method.defaultReturn());
+      }
+
+      callbackMethod.addCode(builder.build());
+      callback.addMethod(callbackMethod.build());
+    }
+
+    return callback.build();
+  }
+
+  /**
+   * Create the listener shared by {@code bindings}, which calls the methods of a view according
+   * to its ID.
+   */
+  private TypeSpec createSharedListener(ListenerClass listener, long debounce,
+      List<ViewBinding> bindings, boolean debuggable) {
+    TypeSpec.Builder callback =
+        createListenerBuilder(listener, debounce, Collections.<Id>emptySet());
+
+    for (ListenerMethod method : getListenerMethods(listener)) {
+      MethodSpec.Builder callbackMethod = createListenerMethodBuilder(method);
+      // IDs bound by the same annotations share a case.
+      Map<Set<MethodViewBinding>, List<Id>> cases = new LinkedHashMap<>();
+      for (ViewBinding binding : bindings) {
+        Set<MethodViewBinding> methodViewBindings =
+            binding.getMethodBindings().get(listener).get(method);
+        if (methodViewBindings != null) {
+          cases.computeIfAbsent(methodViewBindings, k -> new ArrayList<>()).add(binding.getId());
         }
+      }
 
-        callbackMethod.addCode(builder.build());
-        callback.addMethod(callbackMethod.build());
+      CodeBlock.Builder builder = CodeBlock.builder();
+      addIdDispatch(builder, method, cases, debuggable);
+      if (!"void".equals(method.returnType())) {
+        builder.addStatement("return $L", method.defaultReturn());
       }
 
-      boolean requiresRemoval = listener.remover().length() != 0;
-      String listenerField = null;
-      if (requiresRemoval) {
-        TypeName listenerClassName = bestGuess(listener.type());
-        listenerField = fieldName + ((ClassName) listenerClassName).simpleName();
-        result.addStatement("$L = $L", listenerField, callback.build());
+      callbackMethod.addCode(builder.build());
+      callback.addMethod(callbackMethod.build());
+    }
+
+    return callback.build();
+  }
+
+  /**
+   * Call the methods of each case when the ID of the view in the first listener parameter is one
+   * of the case's IDs.
+   */
+  private static void addIdDispatch(CodeBlock.Builder builder, ListenerMethod method,
+      Map<Set<MethodViewBinding>, List<Id>> cases, boolean debuggable) {
+    if (cases.isEmpty()) {
+      return;
+    }
+    boolean constantIds = true;
+    for (List<Id> ids : cases.values()) {
+      for (Id id : ids) {
+        constantIds &= id.constant;
       }
+    }
 
-      String targetType = listener.targetType();
-      if (!VIEW_TYPE.equals(targetType)) {
-        result.addStatement("(($T) $N).$L($L)", bestGuess(targetType), bindName,
-            listener.setter(), requiresRemoval ? listenerField : callback.build());
+    if (constantIds) {
+      builder.beginControlFlow("switch (p0.getId())");
+    } else {
+      // Library IDs are not constant until the application is built so no switch is used.
+      builder.addStatement("int id = p0.getId()");
+    }
+    boolean first = true;
+    for (Map.Entry<Set<MethodViewBinding>, List<Id>> e : cases.entrySet()) {
+      if (constantIds) {
+        for (Id id : e.getValue()) {
+          builder.add("case $L:\n", id.code);
+        }
+        builder.indent();
+        if (!addMethodCalls(builder, method, e.getKey(), debuggable)) {
+          builder.addStatement("break");
+        }
+        builder.unindent();
       } else {
-        result.addStatement("$N.$L($L)", bindName, listener.setter(),
-            requiresRemoval ? listenerField : callback.build());
+        CodeBlock.Builder condition = CodeBlock.builder();
+        for (Id id : e.getValue()) {
+          condition.add(condition.build().isEmpty() ? "id == $L" : " || id == $L", id.code);
+        }
+        if (first) {
+          builder.beginControlFlow("if ($L)", condition.build());
+        } else {
+          builder.nextControlFlow("else if ($L)", condition.build());
+        }
+        addMethodCalls(builder, method, e.getKey(), debuggable);
+        first = false;
       }
     }
+    builder.endControlFlow();
+  }
 
-    if (needsNullChecked) {
-      result.endControlFlow();
+  /** Group child IDs by the methods bound to them. */
+  private static Map<Set<MethodViewBinding>, List<Id>> getChildIdCases(
+      Set<MethodViewBinding> methodViewBindings) {
+    Map<Id, Set<MethodViewBinding>> idBindings = new LinkedHashMap<>();
+    for (MethodViewBinding binding : methodViewBindings) {
+      for (Id id : binding.getChildIds()) {
+        idBindings.computeIfAbsent(id, k -> new LinkedHashSet<>()).add(binding);
+      }
+    }
+    Map<Set<MethodViewBinding>, List<Id>> cases = new LinkedHashMap<>();
+    for (Map.Entry<Id, Set<MethodViewBinding>> e : idBindings.entrySet()) {
+      cases.computeIfAbsent(e.getValue(), k -> new ArrayList<>()).add(e.getKey());
+    }
+    return cases;
+  }
+
+  private static Set<Id> getChildIds(Collection<Set<MethodViewBinding>> methodBindings) {
+    Set<Id> ids = new LinkedHashSet<>();
+    for (Set<MethodViewBinding> bindings : methodBindings) {
+      for (MethodViewBinding binding : bindings) {
+        ids.addAll(binding.getChildIds());
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * Begin an anonymous subclass of the listener type. Its constructor receives the debounce
+   * interval and the child IDs when there are any.
+   */
+  private static TypeSpec.Builder createListenerBuilder(ListenerClass listener, long debounce,
+      Set<Id> childIds) {
+    List<CodeBlock> arguments = new ArrayList<>();
+    if (debounce > 0) {
+      arguments.add(CodeBlock.of("$L", debounce));
+    }
+    for (Id id : childIds) {
+      arguments.add(id.code);
+    }
+    return TypeSpec.anonymousClassBuilder(CodeBlock.join(arguments, ", "))
+        .superclass(ClassName.bestGuess(listener.type()));
+  }
+
+  private static MethodSpec.Builder createListenerMethodBuilder(ListenerMethod method) {
+    MethodSpec.Builder callbackMethod = MethodSpec.methodBuilder(method.name())
+        .addAnnotation(Override.class)
+        .addModifiers(PUBLIC)
+        .returns(bestGuess(method.returnType()));
+    String[] parameterTypes = method.parameters();
+    for (int i = 0, count = parameterTypes.length; i < count; i++) {
+      callbackMethod.addParameter(bestGuess(parameterTypes[i]), "p" + i);
+    }
+    return callbackMethod;
+  }
+
+  /** The debounce interval of the {@code listener} which {@code binding} has of its own. */
+  private static long getDebounce(ViewBinding binding, ListenerClass listener) {
+    return getDebounce(binding.getMethodBindings().get(listener).values());
+  }
+
+  /**
+   * Methods of one view sharing a listener share its interval so the longest one is used. Views
+   * only share a listener with others of the same interval.
+   */
+  private static long getDebounce(Collection<Set<MethodViewBinding>> methodBindings) {
+    long debounce = 0;
+    for (Set<MethodViewBinding> bindings : methodBindings) {
+      for (MethodViewBinding binding : bindings) {
+        debounce = Math.max(debounce, binding.getDebounce());
+      }
+    }
+    return debounce;
+  }
+
+  private static Set<MethodViewBinding> getCoalescedBindings(Set<MethodViewBinding> bindings) {
+    Set<MethodViewBinding> coalesced = new LinkedHashSet<>();
+    for (MethodViewBinding binding : bindings) {
+      if (binding.isCoalesced()) {
+        coalesced.add(binding);
+      }
+    }
+    return coalesced;
+  }
+
+  private static List<ListenerMethod> getCoalescedMethods(
+      Map<ListenerMethod, Set<MethodViewBinding>> methodBindings) {
+    List<ListenerMethod> methods = new ArrayList<>();
+    for (Map.Entry<ListenerMethod, Set<MethodViewBinding>> e : methodBindings.entrySet()) {
+      if (!getCoalescedBindings(e.getValue()).isEmpty()) {
+        methods.add(e.getKey());
+      }
     }
+    return methods;
+  }
+
+  /** Listener argument positions which the coalesced {@code bindings} receive. */
+  private static SortedSet<Integer> getCoalescedPositions(Set<MethodViewBinding> bindings) {
+    SortedSet<Integer> positions = new TreeSet<>();
+    for (MethodViewBinding binding : bindings) {
+      for (Parameter parameter : binding.getParameters()) {
+        positions.add(parameter.getListenerPosition());
+      }
+    }
+    return positions;
+  }
+
+  private static String coalescerFieldName(String viewFieldName, ListenerMethod method) {
+    String name = method.name();
+    return viewFieldName + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  /**
+   * Call each of {@code methodViewBindings} with the arguments of {@code method}. Returns true if
+   * a call returned the value of the listener method.
+   */
+  private static boolean addMethodCalls(CodeBlock.Builder builder, ListenerMethod method,
+      Set<MethodViewBinding> methodViewBindings, boolean debuggable) {
+    return addMethodCalls(builder, method, methodViewBindings, debuggable, "p");
+  }
+
+  /** Like the above, but argument {@code i} is read from {@code argumentPrefix + i}. */
+  private static boolean addMethodCalls(CodeBlock.Builder builder, ListenerMethod method,
+      Set<MethodViewBinding> methodViewBindings, boolean debuggable, String argumentPrefix) {
+    boolean hasReturnValue = false;
+    for (MethodViewBinding methodBinding : methodViewBindings) {
+      if (methodBinding.hasReturnValue()) {
+        hasReturnValue = true;
+        builder.add("return "); // TODO what about multiple methods?
+      }
+      builder.add("target.$L(", methodBinding.getName());
+      List<Parameter> parameters = methodBinding.getParameters();
+      String[] listenerParameters = method.parameters();
+      for (int i = 0, count = parameters.size(); i < count; i++) {
+        if (i > 0) {
+          builder.add(", ");
+        }
+
+        Parameter parameter = parameters.get(i);
+        int listenerPosition = parameter.getListenerPosition();
+
+        if (parameter.requiresCast(listenerParameters[listenerPosition])) {
+          if (debuggable) {
+            builder.add("$T.castParam($L$L, $S, $L, $S, $L, $T.class)", UTILS, argumentPrefix,
+                listenerPosition, method.name(), listenerPosition, methodBinding.getName(), i,
+                parameter.getType());
+          } else {
+            builder.add("($T) $L$L", parameter.getType(), argumentPrefix, listenerPosition);
+          }
+        } else {
+          builder.add("$L$L", argumentPrefix, listenerPosition);
+        }
+      }
+      builder.add(");\n");
+    }
+    return hasReturnValue;
   }
 
   private static List<ListenerMethod> getListenerMethods(ListenerClass listener) {
@@ -636,6 +1479,16 @@ final class BindingSet implements BindingInformationProvider {
     return false;
   }
 
+  /** True when a resource is assigned from a callback which captures the target. */
+  private boolean hasAsyncResourceBindings() {
+    for (ResourceBinding binding : resourceBindings) {
+      if (binding.isAsync()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private boolean hasMethodBindings() {
     for (ViewBinding bindings : viewBindings) {
       if (!bindings.getMethodBindings().isEmpty()) {
@@ -728,6 +1581,8 @@ final class BindingSet implements BindingInformationProvider {
     private final boolean isDialog;
 
     private @Nullable BindingInformationProvider parentBinding;
+    private boolean hasSubclassBinding;
+    private @Nullable Id rootId;
 
     private final Map<Id, ViewBinding.Builder> viewIdMap = new LinkedHashMap<>();
     private final ImmutableList.Builder<FieldCollectionViewBinding> collectionBindings =
@@ -775,6 +1630,14 @@ final class BindingSet implements BindingInformationProvider {
       this.parentBinding = parent;
     }
 
+    void setHasSubclassBinding() {
+      this.hasSubclassBinding = true;
+    }
+
+    void setRootId(Id rootId) {
+      this.rootId = rootId;
+    }
+
     @Nullable String findExistingBindingName(Id id) {
       ViewBinding.Builder builder = viewIdMap.get(id);
       if (builder == null) {
@@ -803,7 +1666,7 @@ final class BindingSet implements BindingInformationProvider {
       }
       return new BindingSet(targetTypeName, bindingClassName, enclosingElement, isFinal, isView,
           isActivity, isDialog, viewBindings.build(), collectionBindings.build(),
-          resourceBindings.build(), parentBinding);
+          resourceBindings.build(), parentBinding, hasSubclassBinding, rootId);
     }
   }
 }
@@ -10,9 +10,11 @@ import butterknife.BindDrawable;
 import butterknife.BindFloat;
 import butterknife.BindFont;
 import butterknife.BindInt;
+import butterknife.BindRoot;
 import butterknife.BindString;
 import butterknife.BindView;
 import butterknife.BindViews;
+import butterknife.Coalesce;
 import butterknife.OnCheckedChanged;
 import butterknife.OnClick;
 import butterknife.OnEditorAction;
@@ -20,6 +22,7 @@ import butterknife.OnFocusChange;
 import butterknife.OnItemClick;
 import butterknife.OnItemLongClick;
 import butterknife.OnItemSelected;
+import butterknife.OnItemViewClick;
 import butterknife.OnLongClick;
 import butterknife.OnPageChange;
 import butterknife.OnTextChanged;
@@ -32,6 +35,7 @@ import com.google.auto.common.SuperficialValidation;
 import com.google.auto.service.AutoService;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.TypeName;
 import com.sun.source.util.Trees;
@@ -49,6 +53,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -64,6 +69,7 @@ import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
@@ -75,6 +81,7 @@ import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 import net.ltgt.gradle.incap.IncrementalAnnotationProcessor;
@@ -95,12 +102,21 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
   // TODO remove when http://b.android.com/187527 is released.
   private static final String OPTION_SDK_INT = "butterknife.minSdk";
   private static final String OPTION_DEBUGGABLE = "butterknife.debuggable";
+  private static final String OPTION_REGISTRY = "butterknife.registry";
+  private static final String OPTION_SINGLE_PASS = "butterknife.singlePass";
+  private static final String OPTION_REBIND = "butterknife.rebind";
+  private static final String OPTION_STATIC_BIND = "butterknife.staticBind";
+  private static final String OPTION_RESOURCE_CACHE = "butterknife.resourceCache";
+  private static final String OPTION_DEFER_LISTENERS = "butterknife.deferListeners";
+  private static final String OPTION_SHARED_LISTENERS = "butterknife.sharedListeners";
+  private static final String OPTION_CONTENT_ROOT = "butterknife.contentRoot";
   static final Id NO_ID = new Id(NO_RES_ID);
   static final String VIEW_TYPE = "android.view.View";
   static final String ACTIVITY_TYPE = "android.app.Activity";
   static final String DIALOG_TYPE = "android.app.Dialog";
   private static final String COLOR_STATE_LIST_TYPE = "android.content.res.ColorStateList";
   private static final String BITMAP_TYPE = "android.graphics.Bitmap";
+  private static final String DEFAULT_BITMAP_CONFIG = "ARGB_8888";
   private static final String ANIMATION_TYPE = "android.view.animation.Animation";
   private static final String DRAWABLE_TYPE = "android.graphics.drawable.Drawable";
   private static final String TYPED_ARRAY_TYPE = "android.content.res.TypedArray";
@@ -108,6 +124,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
   private static final String NULLABLE_ANNOTATION_NAME = "Nullable";
   private static final String STRING_TYPE = "java.lang.String";
   private static final String LIST_TYPE = List.class.getCanonicalName();
+  private static final String LAZY_TYPE = "butterknife.Lazy";
   private static final List<Class<? extends Annotation>> LISTENERS = Arrays.asList(//
       OnCheckedChanged.class, //
       OnClick.class, //
@@ -116,6 +133,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       OnItemClick.class, //
       OnItemLongClick.class, //
       OnItemSelected.class, //
+      OnItemViewClick.class, //
       OnLongClick.class, //
       OnPageChange.class, //
       OnTextChanged.class, //
@@ -123,11 +141,15 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
   );
 
   private Types typeUtils;
+  private Elements elementUtils;
   private Filer filer;
   private @Nullable Trees trees;
 
   private int sdk = 1;
   private boolean debuggable = true;
+  private BindingOptions options = BindingOptions.DEFAULT;
+  private @Nullable Registry.Builder registry;
+  private boolean registryWritten;
 
   private final RScanner rScanner = new RScanner();
 
@@ -147,8 +169,30 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     }
 
     debuggable = !"false".equals(env.getOptions().get(OPTION_DEBUGGABLE));
+    boolean rebind = "true".equals(env.getOptions().get(OPTION_REBIND));
+    options = new BindingOptions(
+        "true".equals(env.getOptions().get(OPTION_SINGLE_PASS)),
+        rebind,
+        isCompatibleWithRebind(env, rebind, OPTION_STATIC_BIND),
+        "true".equals(env.getOptions().get(OPTION_RESOURCE_CACHE)),
+        isCompatibleWithRebind(env, rebind, OPTION_DEFER_LISTENERS),
+        isCompatibleWithRebind(env, rebind, OPTION_SHARED_LISTENERS),
+        "true".equals(env.getOptions().get(OPTION_CONTENT_ROOT)));
+
+    String registry = env.getOptions().get(OPTION_REGISTRY);
+    if (registry != null) {
+      try {
+        this.registry = new Registry.Builder(ClassName.bestGuess(registry));
+      } catch (IllegalArgumentException e) {
+        env.getMessager()
+            .printMessage(Kind.ERROR, "Unable to parse supplied registry option '"
+                + registry
+                + "'. Expected a fully-qualified class name.");
+      }
+    }
 
     typeUtils = env.getTypeUtils();
+    elementUtils = env.getElementUtils();
     filer = env.getFiler();
     try {
       trees = Trees.instance(processingEnv);
@@ -168,11 +212,37 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     }
   }
 
+  /**
+   * Whether the boolean processor option {@code name} is set. Options which need bindings to keep
+   * their listeners on the instance are ignored with a warning when rebinding is enabled.
+   */
+  private static boolean isCompatibleWithRebind(ProcessingEnvironment env, boolean rebind,
+      String name) {
+    if (!"true".equals(env.getOptions().get(name))) {
+      return false;
+    }
+    if (rebind) {
+      env.getMessager()
+          .printMessage(Kind.WARNING, "Ignoring option '"
+              + name
+              + "' since it is not supported together with '"
+              + OPTION_REBIND
+              + "'. Rebinding moves the listeners held by each binding onto the new views.");
+      return false;
+    }
+    return true;
+  }
+
   @Override public Set<String> getSupportedOptions() {
     ImmutableSet.Builder<String> builder = ImmutableSet.builder();
-    builder.add(OPTION_SDK_INT, OPTION_DEBUGGABLE);
+    builder.add(OPTION_SDK_INT, OPTION_DEBUGGABLE, OPTION_REGISTRY, OPTION_SINGLE_PASS,
+        OPTION_REBIND, OPTION_STATIC_BIND, OPTION_RESOURCE_CACHE, OPTION_DEFER_LISTENERS,
+        OPTION_SHARED_LISTENERS, OPTION_CONTENT_ROOT);
     if (trees != null) {
-      builder.add(IncrementalAnnotationProcessorType.ISOLATING.getProcessorOption());
+      // The registry aggregates every binding so it must be regenerated when any of them change.
+      builder.add(registry != null
+          ? IncrementalAnnotationProcessorType.AGGREGATING.getProcessorOption()
+          : IncrementalAnnotationProcessorType.ISOLATING.getProcessorOption());
     }
     return builder.build();
   }
@@ -198,6 +268,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     annotations.add(BindFloat.class);
     annotations.add(BindFont.class);
     annotations.add(BindInt.class);
+    annotations.add(BindRoot.class);
     annotations.add(BindString.class);
     annotations.add(BindView.class);
     annotations.add(BindViews.class);
@@ -213,12 +284,28 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       TypeElement typeElement = entry.getKey();
       BindingSet binding = entry.getValue();
 
-      JavaFile javaFile = binding.brewJava(sdk, debuggable);
+      JavaFile javaFile = binding.brewJava(sdk, debuggable, options);
       try {
         javaFile.writeTo(filer);
       } catch (IOException e) {
         error(typeElement, "Unable to write binding for type %s: %s", typeElement, e.getMessage());
       }
+
+      if (registry != null) {
+        registry.add(elementUtils, typeElement, binding);
+      }
+    }
+
+    // Bindings can be discovered over multiple rounds. Write the registry in the first round which
+    // does not produce any new ones.
+    if (registry != null && bindingMap.isEmpty() && !registryWritten && !registry.isEmpty()) {
+      registryWritten = true;
+      try {
+        registry.build().brewJava().writeTo(filer);
+      } catch (IOException e) {
+        processingEnv.getMessager()
+            .printMessage(Kind.ERROR, "Unable to write binding registry: " + e.getMessage());
+      }
     }
 
     return false;
@@ -368,6 +455,23 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     Map<TypeElement, ClasspathBindingSet> classpathBindings =
         findAllSupertypeBindings(builderMap, erasedTargetNames);
 
+    // Views of each target are looked up inside the container it declares, if any.
+    for (Map.Entry<TypeElement, BindingSet.Builder> entry : builderMap.entrySet()) {
+      Id rootId = findRootId(entry.getKey());
+      if (rootId != null) {
+        entry.getValue().setRootId(rootId);
+      }
+    }
+
+    // Superclasses bound in this compilation can share their view lookups with their subclasses.
+    for (TypeElement type : builderMap.keySet()) {
+      TypeElement parentType = findParentType(type, erasedTargetNames, classpathBindings.keySet());
+      BindingSet.Builder parentBuilder = parentType != null ? builderMap.get(parentType) : null;
+      if (parentBuilder != null) {
+        parentBuilder.setHasSubclassBinding();
+      }
+    }
+
     // Associate superclass binders with their subclass binders. This is a queue-based tree walk
     // which starts at the roots (superclasses) and walks to the leafs (subclasses).
     Deque<Map.Entry<TypeElement, BindingSet.Builder>> entries =
@@ -467,14 +571,26 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     boolean hasError = isInaccessibleViaGeneratedCode(BindView.class, "fields", element)
         || isBindingInWrongPackage(BindView.class, element);
 
-    // Verify that the target type extends from View.
+    // A Lazy field is bound to the view type of its argument.
     TypeMirror elementType = element.asType();
+    Name qualifiedName = enclosingElement.getQualifiedName();
+    Name simpleName = element.getSimpleName();
+    boolean lazy = LAZY_TYPE.equals(doubleErasure(elementType));
+    if (lazy) {
+      List<? extends TypeMirror> typeArguments = ((DeclaredType) elementType).getTypeArguments();
+      if (typeArguments.size() != 1) {
+        error(element, "@%s Lazy must have a generic component. (%s.%s)",
+            BindView.class.getSimpleName(), qualifiedName, simpleName);
+        return;
+      }
+      elementType = typeArguments.get(0);
+    }
+
+    // Verify that the target type extends from View.
     if (elementType.getKind() == TypeKind.TYPEVAR) {
       TypeVariable typeVariable = (TypeVariable) elementType;
       elementType = typeVariable.getUpperBound();
     }
-    Name qualifiedName = enclosingElement.getQualifiedName();
-    Name simpleName = element.getSimpleName();
     if (!isSubtypeOfType(elementType, VIEW_TYPE) && !isInterface(elementType)) {
       if (elementType.getKind() == TypeKind.ERROR) {
         note(element, "@%s field with unresolved type (%s) "
@@ -511,7 +627,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     TypeName type = TypeName.get(elementType);
     boolean required = isFieldRequired(element);
 
-    builder.addField(resourceId, new FieldViewBinding(name, type, required));
+    builder.addField(resourceId, new FieldViewBinding(name, type, required, lazy));
 
     // Add the type-erased version to the valid binding targets set.
     erasedTargetNames.add(enclosingElement);
@@ -625,11 +741,11 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
     // Assemble information on the field.
     String name = element.getSimpleName().toString();
-    int id = element.getAnnotation(BindAnim.class).value();
-    Id resourceId = elementToId(element, BindAnim.class, id);
+    BindAnim bindAnim = element.getAnnotation(BindAnim.class);
+    Id resourceId = elementToId(element, BindAnim.class, bindAnim.value());
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-    builder.addResource(new FieldAnimationBinding(resourceId, name));
+    builder.addResource(new FieldAnimationBinding(resourceId, name, bindAnim.cache()));
 
     erasedTargetNames.add(enclosingElement);
   }
@@ -756,6 +872,20 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       hasError = true;
     }
 
+    BindBitmap bindBitmap = element.getAnnotation(BindBitmap.class);
+    if (bindBitmap.width() < 0 || bindBitmap.height() < 0) {
+      error(element, "@%s width and height must not be negative. (%s.%s)",
+          BindBitmap.class.getSimpleName(), enclosingElement.getQualifiedName(),
+          element.getSimpleName());
+      hasError = true;
+    }
+    if (bindBitmap.sampleSize() < 1) {
+      error(element, "@%s sampleSize must be at least 1. (%s.%s)",
+          BindBitmap.class.getSimpleName(), enclosingElement.getQualifiedName(),
+          element.getSimpleName());
+      hasError = true;
+    }
+
     // Verify common generated code restrictions.
     hasError |= isInaccessibleViaGeneratedCode(BindBitmap.class, "fields", element);
     hasError |= isBindingInWrongPackage(BindBitmap.class, element);
@@ -766,11 +896,18 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
     // Assemble information on the field.
     String name = element.getSimpleName().toString();
-    int id = element.getAnnotation(BindBitmap.class).value();
+    int id = bindBitmap.value();
     Id resourceId = elementToId(element, BindBitmap.class, id);
+    String config = getBitmapConfig(element);
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-    builder.addResource(
-        new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.BITMAP));
+    if (bindBitmap.width() == 0 && bindBitmap.height() == 0 && bindBitmap.sampleSize() == 1
+        && config.equals(DEFAULT_BITMAP_CONFIG) && !bindBitmap.async()) {
+      builder.addResource(
+          new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.BITMAP));
+    } else {
+      builder.addResource(new FieldBitmapBinding(resourceId, name, bindBitmap.width(),
+          bindBitmap.height(), bindBitmap.sampleSize(), config, bindBitmap.async()));
+    }
 
     erasedTargetNames.add(enclosingElement);
   }
@@ -875,7 +1012,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
     Id resourceId = elementToId(element, BindFont.class, bindFont.value());
-    builder.addResource(new FieldTypefaceBinding(resourceId, name, style));
+    builder.addResource(new FieldTypefaceBinding(resourceId, name, style, bindFont.async()));
 
     erasedTargetNames.add(enclosingElement);
   }
@@ -1060,6 +1197,12 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     }
 
     int[] ids = (int[]) annotationValue.invoke(annotation);
+    int[] childIds = new int[0];
+    if (annotation instanceof OnItemViewClick) {
+      // The listener is set on the container and value() holds the IDs of views in its items.
+      childIds = ids;
+      ids = new int[] { ((OnItemViewClick) annotation).container() };
+    }
     String name = executableElement.getSimpleName().toString();
     boolean required = isListenerRequired(executableElement);
 
@@ -1068,6 +1211,9 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     hasError |= isBindingInWrongPackage(annotationClass, element);
 
     Integer duplicateId = findDuplicate(ids);
+    if (duplicateId == null) {
+      duplicateId = findDuplicate(childIds);
+    }
     if (duplicateId != null) {
       error(element, "@%s annotation for method contains duplicate ID %d. (%s.%s)",
           annotationClass.getSimpleName(), duplicateId, enclosingElement.getQualifiedName(),
@@ -1075,6 +1221,23 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       hasError = true;
     }
 
+    if (annotation instanceof OnItemViewClick) {
+      if (childIds.length == 0) {
+        error(element, "@%s must specify at least one ID. (%s.%s)",
+            annotationClass.getSimpleName(), enclosingElement.getQualifiedName(),
+            element.getSimpleName());
+        hasError = true;
+      }
+      for (int id : childIds) {
+        if (id == NO_ID.value) {
+          error(element, "@%s annotation contains invalid ID %d. (%s.%s)",
+              annotationClass.getSimpleName(), id, enclosingElement.getQualifiedName(),
+              element.getSimpleName());
+          hasError = true;
+        }
+      }
+    }
+
     ListenerClass listener = annotationClass.getAnnotation(ListenerClass.class);
     if (listener == null) {
       throw new IllegalStateException(
@@ -1148,6 +1311,22 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       hasError = true;
     }
 
+    long debounce = annotation instanceof OnClick ? ((OnClick) annotation).debounce() : 0;
+    if (debounce < 0) {
+      error(element, "@%s debounce must not be negative. (%s.%s)",
+          annotationClass.getSimpleName(), enclosingElement.getQualifiedName(),
+          element.getSimpleName());
+      hasError = true;
+    }
+
+    Coalesce coalesce = Coalesce.NONE;
+    if (annotation instanceof OnTextChanged) {
+      coalesce = ((OnTextChanged) annotation).coalesce();
+    } else if (annotation instanceof OnPageChange) {
+      coalesce = ((OnPageChange) annotation).coalesce();
+    }
+    boolean coalesced = coalesce == Coalesce.FRAME;
+
     if (hasError) {
       return;
     }
@@ -1217,8 +1396,10 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       }
     }
 
-    MethodViewBinding binding =
-        new MethodViewBinding(name, Arrays.asList(parameters), required, hasReturnValue);
+    List<Id> childResourceIds =
+        new ArrayList<>(elementToIds(element, annotationClass, childIds).values());
+    MethodViewBinding binding = new MethodViewBinding(name, Arrays.asList(parameters), required,
+        hasReturnValue, debounce, coalesced, childResourceIds);
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
     Map<Integer, Id> resourceIds = elementToIds(element, annotationClass, ids);
 
@@ -1367,6 +1548,27 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     }
   }
 
+  /**
+   * The ID of the {@code @BindRoot} container of {@code typeElement} or its nearest annotated
+   * superclass. Activities and dialogs otherwise use their content view when
+   * {@code butterknife.contentRoot} is set.
+   */
+  private @Nullable Id findRootId(TypeElement typeElement) {
+    for (TypeElement type = typeElement; type != null; type = getSuperClass(type)) {
+      BindRoot bindRoot = type.getAnnotation(BindRoot.class);
+      if (bindRoot == null) {
+        break;
+      }
+      if (getMirror(type, BindRoot.class) != null) {
+        return elementToId(type, BindRoot.class, bindRoot.value());
+      }
+    }
+    TypeMirror typeMirror = typeElement.asType();
+    boolean hasWindow =
+        isSubtypeOfType(typeMirror, ACTIVITY_TYPE) || isSubtypeOfType(typeMirror, DIALOG_TYPE);
+    return options.contentRoot && hasWindow ? Id.ANDROID_CONTENT : null;
+  }
+
   private @Nullable TypeElement getSuperClass(TypeElement typeElement) {
     TypeMirror type = typeElement.getSuperclass();
     if (type.getKind() == TypeKind.NONE) {
@@ -1409,17 +1611,20 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
   private Map<Integer, Id> elementToIds(Element element, Class<? extends Annotation> annotation,
       int[] values) {
-    Map<Integer, Id> resourceIds = new LinkedHashMap<>();
+    Map<Integer, Id> scannedIds = Collections.emptyMap();
     JCTree tree = (JCTree) trees.getTree(element, getMirror(element, annotation));
     if (tree != null) { // tree can be null if the references are compiled types and not source
       rScanner.reset();
       tree.accept(rScanner);
-      resourceIds = rScanner.resourceIds;
+      scannedIds = rScanner.resourceIds;
     }
 
-    // Every value looked up should have an Id
+    // Every value looked up should have an Id. Literals of other members, like an @OnClick
+    // debounce, are scanned too and so are left out.
+    Map<Integer, Id> resourceIds = new LinkedHashMap<>();
     for (int value : values) {
-      resourceIds.putIfAbsent(value, new Id(value));
+      Id id = scannedIds.get(value);
+      resourceIds.put(value, id != null ? id : new Id(value));
     }
     return resourceIds;
   }
@@ -1442,6 +1647,21 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     return element.getAnnotation(Optional.class) == null;
   }
 
+  /**
+   * The name of the {@code Bitmap.Config} constant set on {@code @BindBitmap}. It is read from the
+   * mirror because the enum class is not available to the processor.
+   */
+  private static String getBitmapConfig(Element element) {
+    AnnotationMirror mirror = requireNonNull(getMirror(element, BindBitmap.class));
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+        : mirror.getElementValues().entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals("config")) {
+        return ((VariableElement) entry.getValue().getValue()).getSimpleName().toString();
+      }
+    }
+    return DEFAULT_BITMAP_CONFIG;
+  }
+
   private static @Nullable AnnotationMirror getMirror(Element element,
       Class<? extends Annotation> annotation) {
     for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
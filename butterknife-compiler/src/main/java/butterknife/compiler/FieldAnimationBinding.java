@@ -3,14 +3,17 @@ package butterknife.compiler;
 import com.squareup.javapoet.CodeBlock;
 
 import static butterknife.compiler.BindingSet.ANIMATION_UTILS;
+import static butterknife.compiler.BindingSet.UTILS;
 
 final class FieldAnimationBinding implements ResourceBinding {
   private final Id id;
   private final String name;
+  private final boolean cache;
 
-  FieldAnimationBinding(Id id, String name) {
+  FieldAnimationBinding(Id id, String name, boolean cache) {
     this.id = id;
     this.name = name;
+    this.cache = cache;
   }
 
   @Override public Id id() {
@@ -22,7 +25,7 @@ final class FieldAnimationBinding implements ResourceBinding {
   }
 
   @Override public CodeBlock render(int sdk) {
-    return CodeBlock.of("target.$L = $T.loadAnimation(context, $L)", name, ANIMATION_UTILS,
-            id.code);
+    return CodeBlock.of("target.$L = $T.loadAnimation(context, $L)", name,
+        cache ? UTILS : ANIMATION_UTILS, id.code);
   }
 }
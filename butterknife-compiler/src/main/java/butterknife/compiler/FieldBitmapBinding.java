@@ -0,0 +1,65 @@
+package butterknife.compiler;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+/** A {@code @BindBitmap} field which uses decoding options and so goes through the cache. */
+final class FieldBitmapBinding implements ResourceBinding {
+  private static final ClassName BITMAP = ClassName.get("android.graphics", "Bitmap");
+  private static final ClassName BITMAP_LOADER =
+      ClassName.get("butterknife.internal", "BitmapLoader");
+  private static final ClassName CALLBACK = BITMAP_LOADER.nestedClass("Callback");
+
+  private final Id id;
+  private final String name;
+  private final int width;
+  private final int height;
+  private final int sampleSize;
+  private final String config;
+  private final boolean async;
+
+  FieldBitmapBinding(Id id, String name, int width, int height, int sampleSize, String config,
+      boolean async) {
+    this.id = id;
+    this.name = name;
+    this.width = width;
+    this.height = height;
+    this.sampleSize = sampleSize;
+    this.config = config;
+    this.async = async;
+  }
+
+  @Override public Id id() {
+    return id;
+  }
+
+  @Override public boolean requiresResources(int sdk) {
+    return true;
+  }
+
+  @Override public boolean isAsync() {
+    return async;
+  }
+
+  @Override public CodeBlock render(int sdk) {
+    CodeBlock arguments = CodeBlock.of("res, $L, $L, $L, $L, $T.Config.$L", id.code, width, height,
+        sampleSize, BITMAP, config);
+    if (!async) {
+      return CodeBlock.of("target.$L = $T.decode($L)", name, BITMAP_LOADER, arguments);
+    }
+    TypeSpec callback = TypeSpec.anonymousClassBuilder("")
+        .superclass(CALLBACK)
+        .addMethod(MethodSpec.methodBuilder("onBitmapLoaded")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(BITMAP, "bitmap")
+            .addStatement("target.$L = bitmap", name)
+            .build())
+        .build();
+    return CodeBlock.of("$T.decodeAsync($L, $L)", BITMAP_LOADER, arguments, callback);
+  }
+}
@@ -10,13 +10,20 @@ import static butterknife.compiler.BindingSet.requiresCast;
 
 final class FieldCollectionViewBinding {
   enum Kind {
-    ARRAY("arrayFilteringNull"),
-    LIST("listFilteringNull");
+    ARRAY("arrayFilteringNull", "array", "requiredArray", "optionalArray"),
+    LIST("listFilteringNull", "list", "requiredList", "optionalList");
 
     final String factoryName;
+    final String tableFactoryName;
+    final String tableRequiredFactoryName;
+    final String tableOptionalFactoryName;
 
-    Kind(String factoryName) {
+    Kind(String factoryName, String tableFactoryName, String tableRequiredFactoryName,
+        String tableOptionalFactoryName) {
       this.factoryName = factoryName;
+      this.tableFactoryName = tableFactoryName;
+      this.tableRequiredFactoryName = tableRequiredFactoryName;
+      this.tableOptionalFactoryName = tableOptionalFactoryName;
     }
   }
 
@@ -35,7 +42,14 @@ final class FieldCollectionViewBinding {
     this.required = required;
   }
 
-  CodeBlock render(boolean debuggable) {
+  List<Id> getIds() {
+    return ids;
+  }
+
+  CodeBlock render(boolean debuggable, boolean fromTable) {
+    if (fromTable) {
+      return renderFromTable(debuggable);
+    }
     CodeBlock.Builder builder = CodeBlock.builder()
         .add("target.$L = $T.$L(", name, UTILS, kind.factoryName);
     for (int i = 0; i < ids.size(); i++) {
@@ -59,17 +73,36 @@ final class FieldCollectionViewBinding {
         if (requiresCast) {
           builder.add("AsType");
         }
-        builder.add("(source, $L, \"field '$L'\"", id.code, name);
+        builder.add("(source, $L", id.code);
+        builder.add(", \"field '$L'\"", name);
         if (requiresCast) {
-          TypeName rawType = type;
-          if (rawType instanceof ParameterizedTypeName) {
-            rawType = ((ParameterizedTypeName) rawType).rawType;
-          }
-          builder.add(", $T.class", rawType);
+          builder.add(", $T.class", rawType());
         }
         builder.add(")");
       }
     }
     return builder.add(")").build();
   }
+
+  /** Render assignment of the field from the {@code views} table holding all of its IDs. */
+  private CodeBlock renderFromTable(boolean debuggable) {
+    TypeName rawType = rawType();
+    CodeBlock.Builder builder = CodeBlock.builder()
+        .add("target.$L = views.", name);
+    if (!debuggable || (!requiresCast(type) && !required)) {
+      builder.add("$L($T.class", kind.tableFactoryName, rawType);
+    } else {
+      builder.add("$L($T.class, \"field '$L'\"",
+          required ? kind.tableRequiredFactoryName : kind.tableOptionalFactoryName, rawType,
+          name);
+    }
+    for (Id id : ids) {
+      builder.add(", \n$L", id.code);
+    }
+    return builder.add(")").build();
+  }
+
+  private TypeName rawType() {
+    return type instanceof ParameterizedTypeName ? ((ParameterizedTypeName) type).rawType : type;
+  }
 }
@@ -91,18 +91,52 @@ final class FieldResourceBinding implements ResourceBinding {
   }
 
   @Override public CodeBlock render(int sdk) {
+    return CodeBlock.of("target.$L = $L", name, renderValue(sdk));
+  }
+
+  /**
+   * The array of a {@code ResourceSnapshot} which can hold this value, or null. Colors depend on
+   * the theme of each context, and arrays and objects other than strings are mutable or need their
+   * own caching, so they are always loaded.
+   */
+  @Nullable String snapshotArray() {
+    switch (type) {
+      case BOOL:
+        return "booleans";
+      case DIMEN_AS_INT:
+      case INT:
+        return "ints";
+      case DIMEN_AS_FLOAT:
+      case FLOAT:
+        return "floats";
+      case STRING:
+        return "strings";
+      default:
+        return null;
+    }
+  }
+
+  /** Render loading the value into slot {@code index} of the {@code snapshot} local. */
+  CodeBlock renderIntoSnapshot(int sdk, int index) {
+    return CodeBlock.of("snapshot.$L[$L] = $L", snapshotArray(), index, renderValue(sdk));
+  }
+
+  /** Render copying the value out of slot {@code index} of the {@code snapshot} local. */
+  CodeBlock renderFromSnapshot(int index) {
+    return CodeBlock.of("target.$L = snapshot.$L[$L]", name, snapshotArray(), index);
+  }
+
+  private CodeBlock renderValue(int sdk) {
     ResourceMethod method = type.methodForSdk(sdk);
     if (method.typeName == null) {
       if (method.requiresResources) {
-        return CodeBlock.of("target.$L = res.$L($L)", name, method.name, id.code);
+        return CodeBlock.of("res.$L($L)", method.name, id.code);
       }
-      return CodeBlock.of("target.$L = context.$L($L)", name, method.name, id.code);
+      return CodeBlock.of("context.$L($L)", method.name, id.code);
     }
     if (method.requiresResources) {
-      return CodeBlock.of("target.$L = $T.$L(res, $L)", name, method.typeName, method.name,
-          id.code);
+      return CodeBlock.of("$T.$L(res, $L)", method.typeName, method.name, id.code);
     }
-    return CodeBlock.of("target.$L = $T.$L(context, $L)", name, method.typeName, method.name,
-        id.code);
+    return CodeBlock.of("$T.$L(context, $L)", method.typeName, method.name, id.code);
   }
 }
@@ -3,10 +3,14 @@ package butterknife.compiler;
 import androidx.annotation.Nullable;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+
+import static javax.lang.model.element.Modifier.PUBLIC;
 
 final class FieldTypefaceBinding implements ResourceBinding {
-  private static final ClassName RESOURCES_COMPAT =
-      ClassName.get("androidx.core.content.res", "ResourcesCompat");
+  private static final ClassName FONT_LOADER = ClassName.get("butterknife.internal", "FontLoader");
+  private static final ClassName CALLBACK = FONT_LOADER.nestedClass("Callback");
   private static final ClassName TYPEFACE = ClassName.get("android.graphics", "Typeface");
 
   /** Keep in sync with {@link android.graphics.Typeface} constants. */
@@ -35,11 +39,13 @@ final class FieldTypefaceBinding implements ResourceBinding {
   private final Id id;
   private final String name;
   private final TypefaceStyles style;
+  private final boolean async;
 
-  FieldTypefaceBinding(Id id, String name, TypefaceStyles style) {
+  FieldTypefaceBinding(Id id, String name, TypefaceStyles style, boolean async) {
     this.id = id;
     this.name = name;
     this.style = style;
+    this.async = async;
   }
 
   @Override public Id id() {
@@ -47,16 +53,27 @@ final class FieldTypefaceBinding implements ResourceBinding {
   }
 
   @Override public boolean requiresResources(int sdk) {
-    return sdk >= 26;
+    return false;
+  }
+
+  @Override public boolean isAsync() {
+    return async;
   }
 
   @Override public CodeBlock render(int sdk) {
-    CodeBlock typeface = sdk >= 26
-        ? CodeBlock.of("res.getFont($L)", id.code)
-        : CodeBlock.of("$T.getFont(context, $L)", RESOURCES_COMPAT, id.code);
-    if (style != TypefaceStyles.NORMAL) {
-      typeface = CodeBlock.of("$1T.create($2L, $1T.$3L)", TYPEFACE, typeface, style);
+    CodeBlock arguments = CodeBlock.of("context, $L, $T.$L", id.code, TYPEFACE, style);
+    if (!async) {
+      return CodeBlock.of("target.$L = $T.getFont($L)", name, FONT_LOADER, arguments);
     }
-    return CodeBlock.of("target.$L = $L", name, typeface);
+    TypeSpec callback = TypeSpec.anonymousClassBuilder("")
+        .superclass(CALLBACK)
+        .addMethod(MethodSpec.methodBuilder("onFontLoaded")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(TYPEFACE, "typeface")
+            .addStatement("target.$L = typeface", name)
+            .build())
+        .build();
+    return CodeBlock.of("$T.getFontAsync($L, $L)", FONT_LOADER, arguments, callback);
   }
 }
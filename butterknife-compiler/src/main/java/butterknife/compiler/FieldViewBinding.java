@@ -8,11 +8,14 @@ final class FieldViewBinding implements MemberViewBinding {
   private final String name;
   private final TypeName type;
   private final boolean required;
+  private final boolean lazy;
 
-  FieldViewBinding(String name, TypeName type, boolean required) {
+  /** {@code type} is the view type, which for a lazy field is the argument of its {@code Lazy}. */
+  FieldViewBinding(String name, TypeName type, boolean required, boolean lazy) {
     this.name = name;
     this.type = type;
     this.required = required;
+    this.lazy = lazy;
   }
 
   public String getName() {
@@ -37,4 +40,8 @@ final class FieldViewBinding implements MemberViewBinding {
   public boolean isRequired() {
     return required;
   }
+
+  public boolean isLazy() {
+    return lazy;
+  }
 }
@@ -12,12 +12,17 @@ final class Id {
   private static final ClassName ANDROID_R = ClassName.get("android", "R");
   private static final String R = "R";
 
+  /** {@code android.R.id.content}, the parent of the content view of an activity or dialog. */
+  static final Id ANDROID_CONTENT = new Id(0x01020002, CodeBlock.of("android.R.id.content"));
+
   final int value;
   final CodeBlock code;
   final boolean qualifed;
+  /** Whether {@link #code} is a constant expression and so can label a switch case. */
+  final boolean constant;
 
   Id(int value) {
-    this(value, null);
+    this(value, (Symbol) null);
   }
 
   Id(int value, @Nullable Symbol rSymbol) {
@@ -31,12 +36,22 @@ final class Id {
         ? CodeBlock.of("$L.$N", className, resourceName)
         : CodeBlock.of("$T.$N", className, resourceName);
       this.qualifed = true;
+      // Library R2 constants stand in for fields of R which are not final.
+      this.constant = R.equals(rSymbol.enclClass().owner.name.toString());
     } else {
       this.code = CodeBlock.of("$L", value);
       this.qualifed = false;
+      this.constant = true;
     }
   }
 
+  private Id(int value, CodeBlock code) {
+    this.value = value;
+    this.code = code;
+    this.qualifed = true;
+    this.constant = true;
+  }
+
   @Override public boolean equals(Object o) {
     return o instanceof Id && value == ((Id) o).value;
   }
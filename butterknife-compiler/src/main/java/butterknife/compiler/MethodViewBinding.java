@@ -9,13 +9,19 @@ final class MethodViewBinding implements MemberViewBinding {
   private final List<Parameter> parameters;
   private final boolean required;
   private final boolean hasReturnValue;
+  private final long debounce;
+  private final boolean coalesced;
+  private final List<Id> childIds;
 
   MethodViewBinding(String name, List<Parameter> parameters, boolean required,
-      boolean hasReturnValue) {
+      boolean hasReturnValue, long debounce, boolean coalesced, List<Id> childIds) {
     this.name = name;
     this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
     this.required = required;
     this.hasReturnValue = hasReturnValue;
+    this.debounce = debounce;
+    this.coalesced = coalesced;
+    this.childIds = Collections.unmodifiableList(new ArrayList<>(childIds));
   }
 
   public String getName() {
@@ -37,4 +43,19 @@ final class MethodViewBinding implements MemberViewBinding {
   public boolean hasReturnValue() {
     return hasReturnValue;
   }
+
+  /** Milliseconds to debounce the listener for, or zero to use its default. */
+  public long getDebounce() {
+    return debounce;
+  }
+
+  /** True if the method is invoked once per frame with the arguments of the latest event. */
+  public boolean isCoalesced() {
+    return coalesced;
+  }
+
+  /** IDs of the views inside the bound view whose clicks call the method, if any. */
+  public List<Id> getChildIds() {
+    return childIds;
+  }
 }
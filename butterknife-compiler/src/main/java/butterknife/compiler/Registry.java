@@ -0,0 +1,128 @@
+package butterknife.compiler;
+
+import com.google.common.collect.ImmutableMap;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/** A lookup of the binding factory for every type bound in a single compilation. */
+final class Registry {
+  static final ClassName BINDING_FACTORY = ClassName.get("butterknife.internal", "BindingFactory");
+  private static final ClassName BINDING_REGISTRY =
+      ClassName.get("butterknife.internal", "BindingRegistry");
+  private static final ClassName NULLABLE = ClassName.get("androidx.annotation", "Nullable");
+
+  private final ClassName registryClassName;
+  /** Binding class names keyed by the binary name of their target type. */
+  private final ImmutableMap<String, ClassName> bindingClassNames;
+  private final ImmutableMap<String, TypeElement> targetElements;
+
+  private Registry(ClassName registryClassName, ImmutableMap<String, ClassName> bindingClassNames,
+      ImmutableMap<String, TypeElement> targetElements) {
+    this.registryClassName = registryClassName;
+    this.bindingClassNames = bindingClassNames;
+    this.targetElements = targetElements;
+  }
+
+  JavaFile brewJava() {
+    TypeSpec.Builder result = TypeSpec.classBuilder(registryClassName.simpleName())
+        .addModifiers(PUBLIC, FINAL)
+        .addSuperinterface(BINDING_REGISTRY)
+        .addField(FieldSpec.builder(BINDING_REGISTRY, "INSTANCE", PUBLIC, STATIC, FINAL)
+            .initializer("new $T()", registryClassName)
+            .build())
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(PRIVATE)
+            .build())
+        .addMethod(createGetMethod())
+        .addMethod(createTargetsMethod());
+    for (TypeElement targetElement : targetElements.values()) {
+      result.addOriginatingElement(targetElement);
+    }
+    return JavaFile.builder(registryClassName.packageName(), result.build())
+        .addFileComment("Generated code from Butter Knife. Do not modify!")
+        .build();
+  }
+
+  private MethodSpec createGetMethod() {
+    MethodSpec.Builder result = MethodSpec.methodBuilder("get")
+        .addAnnotation(Override.class)
+        .addAnnotation(NULLABLE)
+        .addModifiers(PUBLIC)
+        .returns(BINDING_FACTORY)
+        .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class),
+            WildcardTypeName.subtypeOf(Object.class)), "targetClass");
+
+    // Switch on the name rather than the class to avoid loading every target type.
+    result.beginControlFlow("switch (targetClass.getName())");
+    for (Map.Entry<String, ClassName> entry : bindingClassNames.entrySet()) {
+      result.addCode("case $S:\n$>", entry.getKey());
+      result.addStatement("return $T.FACTORY", entry.getValue());
+      result.addCode("$<");
+    }
+    result.addCode("default:\n$>");
+    result.addStatement("return null");
+    result.addCode("$<");
+    result.endControlFlow();
+    return result.build();
+  }
+
+  private MethodSpec createTargetsMethod() {
+    // Names rather than class literals since targets may not be visible from the registry package.
+    CodeBlock.Builder names = CodeBlock.builder();
+    for (String targetName : bindingClassNames.keySet()) {
+      if (!names.isEmpty()) {
+        names.add(", ");
+      }
+      names.add("$S", targetName);
+    }
+    return MethodSpec.methodBuilder("targets")
+        .addAnnotation(Override.class)
+        .addModifiers(PUBLIC)
+        .returns(ParameterizedTypeName.get(List.class, String.class))
+        .addStatement("return $T.asList($L)", Arrays.class, names.build())
+        .build();
+  }
+
+  static final class Builder {
+    private final ClassName registryClassName;
+    // Sorted so the generated source is stable regardless of processing order.
+    private final Map<String, ClassName> bindingClassNames = new TreeMap<>();
+    private final Map<String, TypeElement> targetElements = new TreeMap<>();
+
+    Builder(ClassName registryClassName) {
+      this.registryClassName = registryClassName;
+    }
+
+    void add(Elements elements, TypeElement targetElement, BindingSet binding) {
+      String binaryName = elements.getBinaryName(targetElement).toString();
+      bindingClassNames.put(binaryName, binding.getBindingClassName());
+      targetElements.put(binaryName, targetElement);
+    }
+
+    boolean isEmpty() {
+      return bindingClassNames.isEmpty();
+    }
+
+    Registry build() {
+      return new Registry(registryClassName, ImmutableMap.copyOf(bindingClassNames),
+          ImmutableMap.copyOf(targetElements));
+    }
+  }
+}
@@ -9,4 +9,9 @@ interface ResourceBinding {
   boolean requiresResources(int sdk);
 
   CodeBlock render(int sdk);
+
+  /** True if the value is assigned from a callback which captures the target. */
+  default boolean isAsync() {
+    return false;
+  }
 }
@@ -55,6 +55,11 @@ final class ViewBinding {
     return methodBindings.isEmpty() && fieldBinding != null;
   }
 
+  /** True if the only binding is a lazy field, so the view is not looked up by the bind. */
+  public boolean isLazyFieldBinding() {
+    return isSingleFieldBinding() && fieldBinding.isLazy();
+  }
+
   public boolean requiresLocal() {
     if (isBoundToRoot()) {
       return false;
@@ -7,7 +7,9 @@ import butterknife.ButterKnife;
 import butterknife.Unbinder;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 
 public final class BindAnimTest {
   private final View tree = ViewTree.create(1);
@@ -25,4 +27,14 @@ public final class BindAnimTest {
     unbinder.unbind();
     assertNotNull(target.actual);
   }
+
+  @Test public void cachedAnimationsAreSeparateInstances() {
+    Target first = new Target();
+    Target second = new Target();
+
+    ButterKnife.bind(first, tree);
+    ButterKnife.bind(second, tree);
+    assertNotSame(first.actual, second.actual);
+    assertEquals(first.actual.getDuration(), second.actual.getDuration());
+  }
 }
@@ -11,6 +11,7 @@ import butterknife.Unbinder;
 import com.example.butterknife.test.R;
 import org.junit.Test;
 
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public final class BindBitmapTest {
@@ -21,6 +22,10 @@ public final class BindBitmapTest {
     @BindBitmap(R.drawable.pixel) Bitmap actual;
   }
 
+  static class OptionsTarget {
+    @BindBitmap(value = R.drawable.pixel, width = 1, height = 1) Bitmap actual;
+  }
+
   @Test public void asBitmap() {
     Target target = new Target();
     Bitmap expected = BitmapFactory.decodeResource(context.getResources(), R.drawable.pixel);
@@ -31,4 +36,15 @@ public final class BindBitmapTest {
     unbinder.unbind();
     assertTrue(target.actual.sameAs(expected));
   }
+
+  @Test public void decodeOptionsShareCachedBitmap() {
+    OptionsTarget first = new OptionsTarget();
+    OptionsTarget second = new OptionsTarget();
+    Bitmap expected = BitmapFactory.decodeResource(context.getResources(), R.drawable.pixel);
+
+    ButterKnife.bind(first, tree);
+    ButterKnife.bind(second, tree);
+    assertTrue(first.actual.sameAs(expected));
+    assertSame(first.actual, second.actual);
+  }
 }
@@ -50,4 +50,17 @@ public final class BindFontTest {
     unbinder.unbind();
     assertThat(target.actual).isSameAs(expected);
   }
+
+  static class TargetAsync {
+    @BindFont(value = R.font.inconsolata_regular, async = true) Typeface actual;
+  }
+
+  @Test public void asyncAssignsResolvedTypefaceDuringBind() {
+    ButterKnife.bind(new TargetTypeface(), tree);
+    Typeface expected = ResourcesCompat.getFont(context, R.font.inconsolata_regular);
+
+    TargetAsync target = new TargetAsync();
+    ButterKnife.bind(target, tree);
+    assertThat(target.actual).isSameAs(expected);
+  }
 }
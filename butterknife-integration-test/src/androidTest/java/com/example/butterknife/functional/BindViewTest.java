@@ -3,6 +3,7 @@ package com.example.butterknife.functional;
 import android.view.View;
 import butterknife.BindView;
 import butterknife.ButterKnife;
+import butterknife.Lazy;
 import butterknife.Unbinder;
 import org.junit.Test;
 
@@ -24,4 +25,21 @@ public final class BindViewTest {
     unbinder.unbind();
     assertThat(target.actual).isNull();
   }
+
+  static class TargetLazyView {
+    @BindView(1) Lazy<View> actual;
+  }
+
+  @Test public void lazyView() {
+    View tree = ViewTree.create(1);
+    View expected = tree.findViewById(1);
+
+    TargetLazyView target = new TargetLazyView();
+    Unbinder unbinder = ButterKnife.bind(target, tree);
+    assertThat(target.actual.get()).isSameAs(expected);
+    assertThat(target.actual.get()).isSameAs(expected);
+
+    unbinder.unbind();
+    assertThat(target.actual).isNull();
+  }
 }
@@ -162,6 +162,35 @@ public final class OnClickTest {
     });
   }
 
+  static final class Debounce {
+    int clicks = 0;
+
+    @OnClick(value = {1, 2}, debounce = 60_000) void click() {
+      clicks++;
+    }
+  }
+
+  @Test public void debounce() {
+    View tree = ViewTree.create(1, 2);
+    View view1 = tree.findViewById(1);
+    View view2 = tree.findViewById(2);
+
+    Debounce target = new Debounce();
+    ButterKnife.bind(target, tree);
+
+    instrumentation.runOnMainSync(() -> {
+      view1.performClick();
+      assertEquals(1, target.clicks);
+    });
+
+    // Later frames are still within the interval, and it covers the whole window.
+    instrumentation.runOnMainSync(() -> {
+      view1.performClick();
+      view2.performClick();
+      assertEquals(1, target.clicks);
+    });
+  }
+
   static final class OptionalId {
     int clicks = 0;
 
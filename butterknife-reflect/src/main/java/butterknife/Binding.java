@@ -0,0 +1,17 @@
+package butterknife;
+
+import android.view.View;
+
+/** A field or method binding resolved once for a type and applied to each of its instances. */
+interface Binding {
+  Unbinder bind(Object target, View source);
+
+  /**
+   * Apply this binding to a new {@code source} for a target which was already bound. Returns the
+   * unbinder which replaces {@code existing}, the one returned from the previous bind.
+   */
+  Unbinder rebind(Object target, View source, Unbinder existing);
+
+  /** The number of views looked up by ID in each {@link #bind}. */
+  int viewCount();
+}
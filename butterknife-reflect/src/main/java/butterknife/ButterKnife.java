@@ -2,14 +2,13 @@ package butterknife;
 
 import android.app.Activity;
 import android.app.Dialog;
-import android.content.Context;
 import android.content.res.ColorStateList;
-import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.text.Editable;
 import android.text.TextWatcher;
 import android.util.Log;
@@ -21,13 +20,22 @@ import android.view.animation.AnimationUtils;
 import android.widget.AdapterView;
 import android.widget.CompoundButton;
 import android.widget.TextView;
+import androidx.annotation.AnyThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.UiThread;
+import androidx.annotation.WorkerThread;
 import androidx.core.content.ContextCompat;
-import androidx.core.content.res.ResourcesCompat;
 import androidx.viewpager.widget.ViewPager;
+import butterknife.ResourceBinding.ResourceLoader;
+import butterknife.internal.BindingRegistry;
+import butterknife.internal.BitmapLoader;
 import butterknife.internal.Constants;
+import butterknife.internal.DebouncingOnClickListener;
+import butterknife.internal.FontLoader;
+import butterknife.internal.FrameCoalescer;
+import butterknife.internal.LazyView;
+import butterknife.internal.Rebindable;
 import butterknife.internal.Utils;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Array;
@@ -39,7 +47,11 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import static java.lang.reflect.Modifier.PRIVATE;
 import static java.lang.reflect.Modifier.PUBLIC;
@@ -52,16 +64,59 @@ public final class ButterKnife {
   }
 
   private static final String TAG = "ButterKnife";
-  private static boolean debug = false;
+  private static volatile boolean debug = false;
+  private static volatile @Nullable BindingMonitor monitor;
+
+  /** The bindings of each target class and its superclasses, resolved on first bind. */
+  private static final Map<Class<?>, TargetBindings> BINDINGS = new ConcurrentHashMap<>();
+
+  /** Whether listener methods can be invoked through {@link MethodHandleListeners}. */
+  private static final boolean METHOD_HANDLES = Build.VERSION.SDK_INT >= 26;
 
   /** Control whether debug logging is enabled. */
   public static void setDebug(boolean debug) {
     ButterKnife.debug = debug;
   }
 
+  /**
+   * Set a monitor which receives the timing of each bind, or null to stop measuring. Install before
+   * binding to also observe the first, uncached, bind of each type.
+   */
+  public static void setMonitor(@Nullable BindingMonitor monitor) {
+    ButterKnife.monitor = monitor;
+  }
+
+  /**
+   * Ignores {@code registry}. Bindings are always read from the annotations of the target, so this
+   * only exists for compatibility with code written against the generated bindings.
+   */
+  @AnyThread
+  public static void addRegistry(@NonNull BindingRegistry registry) {
+  }
+
+  /**
+   * Read and cache the annotations of {@code targetClasses} so that their first bind does not pay
+   * for parsing them. Call from a background thread during startup.
+   */
+  @WorkerThread
+  public static void preload(@NonNull Class<?>... targetClasses) {
+    for (Class<?> targetClass : targetClasses) {
+      findBindingsForClass(targetClass);
+    }
+  }
+
+  /**
+   * Does nothing. Reflection has no registries listing the bound types, so there is nothing to
+   * resolve in advance. Use {@link #preload} for the types which should be.
+   */
+  @AnyThread
+  public static void warmUp(@NonNull Executor executor) {
+  }
+
   /**
    * BindView annotated fields and methods in the specified {@link Activity}. The current content
-   * view is used as the view root.
+   * view is used as the view root, or the {@link BindRoot} container within it when the activity
+   * declares one.
    *
    * @param target Target activity for view binding.
    */
@@ -84,7 +139,8 @@ public final class ButterKnife {
 
   /**
    * BindView annotated fields and methods in the specified {@link Dialog}. The current content
-   * view is used as the view root.
+   * view is used as the view root, or the {@link BindRoot} container within it when the dialog
+   * declares one.
    *
    * @param target Target dialog for view binding.
    */
@@ -129,115 +185,215 @@ public final class ButterKnife {
    */
   @NonNull @UiThread
   public static Unbinder bind(@NonNull Object target, @NonNull View source) {
-    List<Unbinder> unbinders = new ArrayList<>();
+    return createBinding(target, source);
+  }
+
+  /**
+   * BindView annotated fields and methods in the specified {@code target} using the {@code source}
+   * {@link View} as the view root. The returned {@link Unbinder} always clears the bound fields.
+   *
+   * @param target Target class for view binding.
+   * @param source View root on which IDs will be looked up.
+   */
+  @NonNull @UiThread
+  public static Unbinder bindWithUnbinder(@NonNull Object target, @NonNull View source) {
+    return createBinding(target, source);
+  }
+
+  /**
+   * BindView annotated fields and methods in the specified {@code target} using the {@code source}
+   * {@link View} as the view root from a background thread. Use this to bind hierarchies which were
+   * inflated off the main thread, such as by {@code AsyncLayoutInflater}, before handing them to
+   * the main thread.
+   * <p>
+   * The {@code source} hierarchy must not yet be attached to a window since views are not safe to
+   * touch off the main thread once attached. Bound listeners are still invoked on the main thread
+   * and the returned {@link Unbinder} must only be called from the main thread.
+   *
+   * @param target Target class for view binding.
+   * @param source View root on which IDs will be looked up.
+   */
+  @NonNull @WorkerThread
+  public static Unbinder bindInBackground(@NonNull Object target, @NonNull View source) {
+    return createBinding(target, source);
+  }
+
+  private static Unbinder createBinding(Object target, View source) {
     Class<?> targetClass = target.getClass();
+    BindingMonitor monitor = ButterKnife.monitor;
+    if (monitor == null) {
+      TargetBindings targetBindings = findBindingsForClass(targetClass);
+      return applyBindings(target, targetBindings.root(source), targetBindings.bindings);
+    }
+
+    boolean cached = BINDINGS.containsKey(targetClass);
+    long lookupStart = System.nanoTime();
+    TargetBindings targetBindings = findBindingsForClass(targetClass);
+    List<Binding> bindings = targetBindings.bindings;
+    long bindStart = System.nanoTime();
+    Unbinder unbinder = applyBindings(target, targetBindings.root(source), bindings);
+    long bindEnd = System.nanoTime();
+    int viewCount = 0;
+    for (int i = 0, count = bindings.size(); i < count; i++) {
+      viewCount += bindings.get(i).viewCount();
+    }
+    monitor.onBind(targetClass, cached, bindStart - lookupStart, bindEnd - bindStart, viewCount);
+    return unbinder;
+  }
+
+  /**
+   * Move the bindings of {@code existing} onto the {@code source} view hierarchy without creating
+   * a new binding. Fields are reassigned from the new views and the listeners which were attached
+   * to the old views are moved onto the new ones. Use this to retarget a recycled view holder at a
+   * different item view.
+   *
+   * @param existing Unbinder returned from an earlier bind of the target.
+   * @param source View root on which IDs will be looked up.
+   */
+  @UiThread
+  public static void rebind(@NonNull Unbinder existing, @NonNull View source) {
+    if (existing instanceof Rebindable) {
+      ((Rebindable) existing).rebind(source);
+    } else if (existing != Unbinder.EMPTY) {
+      throw new IllegalArgumentException(
+          existing.getClass().getName() + " was not returned from ButterKnife.bind.");
+    }
+  }
+
+  private static Unbinder applyBindings(Object target, View source, List<Binding> bindings) {
+    if (bindings.isEmpty()) {
+      if (debug) Log.d(TAG, "MISS: Reached framework class. Abandoning search.");
+      return Unbinder.EMPTY;
+    }
+
+    List<Unbinder> unbinders = new ArrayList<>(bindings.size());
+    for (int i = 0, count = bindings.size(); i < count; i++) {
+      unbinders.add(bindings.get(i).bind(target, source));
+    }
+    if (debug) Log.d(TAG, "HIT: Reflectively found " + unbinders.size() + " bindings.");
+    return new CompositeUnbinder(target, bindings, unbinders);
+  }
+
+  /**
+   * Returns the bindings declared by {@code targetClass} and its superclasses. Annotations are only
+   * read and validated for the first bind of each class. Later binds reuse the result.
+   */
+  private static TargetBindings findBindingsForClass(Class<?> targetClass) {
+    TargetBindings targetBindings = BINDINGS.get(targetClass);
+    if (targetBindings != null) {
+      if (debug) Log.d(TAG, "HIT: Cached in binding map.");
+      return targetBindings;
+    }
     if ((targetClass.getModifiers() & PRIVATE) != 0) {
       throw new IllegalArgumentException(targetClass.getName() + " must not be private.");
     }
 
+    List<Binding> newBindings = new ArrayList<>();
+    Class<?> cls = targetClass;
     while (true) {
-      String clsName = targetClass.getName();
+      String clsName = cls.getName();
       if (clsName.startsWith("android.") || clsName.startsWith("java.")
           || clsName.startsWith("androidx.")) {
         break;
       }
 
-      for (Field field : targetClass.getDeclaredFields()) {
-        int unbinderStartingSize = unbinders.size();
-        Unbinder unbinder;
+      for (Field field : cls.getDeclaredFields()) {
+        int bindingStartingSize = newBindings.size();
+        Binding binding;
 
-        unbinder = parseBindView(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindView(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindViews(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindViews(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindAnim(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindAnim(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindArray(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindArray(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindBitmap(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindBitmap(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindBool(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindBool(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindColor(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindColor(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindDimen(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindDimen(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindDrawable(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindDrawable(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindFloat(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindFloat(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindFont(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindFont(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindInt(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindInt(field);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseBindString(target, field, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseBindString(field);
+        if (binding != null) newBindings.add(binding);
 
-        if (unbinders.size() - unbinderStartingSize > 1) {
+        if (newBindings.size() - bindingStartingSize > 1) {
           throw new IllegalStateException(
-              "More than one bind annotation on " + targetClass.getName() + "." + field.getName());
+              "More than one bind annotation on " + cls.getName() + "." + field.getName());
         }
       }
 
-      for (Method method : targetClass.getDeclaredMethods()) {
-        Unbinder unbinder;
+      for (Method method : cls.getDeclaredMethods()) {
+        Binding binding;
 
-        unbinder = parseOnCheckedChanged(target, method, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseOnCheckedChanged(method);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseOnClick(target, method, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseOnClick(method);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseOnEditorAction(target, method, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseOnEditorAction(method);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseOnFocusChange(target, method, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseOnFocusChange(method);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseOnItemClick(target, method, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseOnItemClick(method);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseOnItemLongClick(target, method, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseOnItemLongClick(method);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseOnLongClick(target, method, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseOnItemViewClick(method);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseOnPageChange(target, method, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseOnLongClick(method);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseOnTextChanged(target, method, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseOnPageChange(method);
+        if (binding != null) newBindings.add(binding);
 
-        unbinder = parseOnTouch(target, method, source);
-        if (unbinder != null) unbinders.add(unbinder);
+        binding = parseOnTextChanged(method);
+        if (binding != null) newBindings.add(binding);
+
+        binding = parseOnTouch(method);
+        if (binding != null) newBindings.add(binding);
       }
 
-      targetClass = targetClass.getSuperclass();
+      cls = cls.getSuperclass();
     }
 
-    if (unbinders.isEmpty()) {
-      if (debug) Log.d(TAG, "MISS: Reached framework class. Abandoning search.");
-      return Unbinder.EMPTY;
-    }
-
-    if (debug) Log.d(TAG, "HIT: Reflectively found " + unbinders.size() + " bindings.");
-    return new CompositeUnbinder(unbinders);
+    BindRoot bindRoot = targetClass.getAnnotation(BindRoot.class);
+    targetBindings = new TargetBindings(bindRoot != null ? bindRoot.value() : View.NO_ID,
+        Collections.unmodifiableList(newBindings));
+    BINDINGS.put(targetClass, targetBindings);
+    return targetBindings;
   }
 
-  private static @Nullable Unbinder parseBindView(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindView(Field field) {
     BindView bindView = field.getAnnotation(BindView.class);
     if (bindView == null) {
       return null;
@@ -246,6 +402,18 @@ public final class ButterKnife {
 
     int id = bindView.value();
     Class<?> viewClass = field.getType();
+    boolean lazy = viewClass == Lazy.class;
+    if (lazy) {
+      Type viewType = field.getGenericType();
+      if (!(viewType instanceof ParameterizedType)) {
+        throw new IllegalStateException("@BindView Lazy must have a generic component. ("
+            + field.getDeclaringClass().getName()
+            + '.'
+            + field.getName()
+            + ')');
+      }
+      viewClass = (Class<?>) ((ParameterizedType) viewType).getActualTypeArguments()[0];
+    }
     if (!View.class.isAssignableFrom(viewClass) && !viewClass.isInterface()) {
       throw new IllegalStateException(
           "@BindView fields must extend from View or be an interface. ("
@@ -256,13 +424,27 @@ public final class ButterKnife {
     }
 
     String who = "field '" + field.getName() + "'";
-    Object view = Utils.findOptionalViewAsType(source, id, who, viewClass);
-    trySet(field, target, view);
+    Class<?> finalViewClass = viewClass;
+    return new Binding() {
+      @Override public Unbinder bind(Object target, View source) {
+        return rebind(target, source, new FieldUnbinder(target, field));
+      }
 
-    return new FieldUnbinder(target, field);
+      @Override public Unbinder rebind(Object target, View source, Unbinder existing) {
+        Object view = lazy
+            ? LazyView.optional(source, id, who, finalViewClass)
+            : Utils.findOptionalViewAsType(source, id, who, finalViewClass);
+        trySet(field, target, view);
+        return existing;
+      }
+
+      @Override public int viewCount() {
+        return lazy ? 0 : 1;
+      }
+    };
   }
 
-  private static @Nullable Unbinder parseBindViews(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindViews(Field field) {
     BindViews bindViews = field.getAnnotation(BindViews.class);
     if (bindViews == null) {
       return null;
@@ -312,28 +494,40 @@ public final class ButterKnife {
           + ')');
     }
 
-    List<Object> views = new ArrayList<>(ids.length);
     String who = "field '" + field.getName() + "'";
-    for (int id : ids) {
-      Object view = Utils.findOptionalViewAsType(source, id, who, viewClass);
-      if (view != null) {
-        views.add(view);
+    return new Binding() {
+      @Override public Unbinder bind(Object target, View source) {
+        return rebind(target, source, new FieldUnbinder(target, field));
       }
-    }
 
-    Object value;
-    if (isArray) {
-      Object[] viewArray = (Object[]) Array.newInstance(viewClass, views.size());
-      value = views.toArray(viewArray);
-    } else {
-      value = views;
-    }
+      @Override public Unbinder rebind(Object target, View source, Unbinder existing) {
+        List<Object> views = new ArrayList<>(ids.length);
+        for (int id : ids) {
+          Object view = Utils.findOptionalViewAsType(source, id, who, viewClass);
+          if (view != null) {
+            views.add(view);
+          }
+        }
+
+        Object value;
+        if (isArray) {
+          Object[] viewArray = (Object[]) Array.newInstance(viewClass, views.size());
+          value = views.toArray(viewArray);
+        } else {
+          value = views;
+        }
 
-    trySet(field, target, value);
-    return new FieldUnbinder(target, field);
+        trySet(field, target, value);
+        return existing;
+      }
+
+      @Override public int viewCount() {
+        return ids.length;
+      }
+    };
   }
 
-  private static @Nullable Unbinder parseBindAnim(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindAnim(Field field) {
     BindAnim bindAnim = field.getAnnotation(BindAnim.class);
     if (bindAnim == null) {
       return null;
@@ -341,12 +535,13 @@ public final class ButterKnife {
     validateMember(field);
 
     int id = bindAnim.value();
-    Context context = source.getContext();
 
-    Object value;
+    ResourceLoader loader;
     Class<?> fieldType = field.getType();
     if (fieldType == Animation.class) {
-      value = AnimationUtils.loadAnimation(context, id);
+      loader = bindAnim.cache()
+          ? context -> Utils.loadAnimation(context, id)
+          : context -> AnimationUtils.loadAnimation(context, id);
     } else {
       throw new IllegalStateException("@BindAnim field type must be 'Animation'. ("
           + field.getDeclaringClass().getName()
@@ -354,12 +549,10 @@ public final class ButterKnife {
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
-
-    return Unbinder.EMPTY;
+    return new ResourceBinding(field, loader);
   }
 
-  private static @Nullable Unbinder parseBindArray(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindArray(Field field) {
     BindArray bindArray = field.getAnnotation(BindArray.class);
     if (bindArray == null) {
       return null;
@@ -367,20 +560,19 @@ public final class ButterKnife {
     validateMember(field);
 
     int id = bindArray.value();
-    Resources resources = source.getContext().getResources();
 
-    Object value;
+    ResourceLoader loader;
     Class<?> fieldType = field.getType();
     if (fieldType == TypedArray.class) {
-      value = resources.obtainTypedArray(id);
+      loader = context -> context.getResources().obtainTypedArray(id);
     } else if (fieldType.isArray()) {
       Class<?> componentType = fieldType.getComponentType();
       if (componentType == String.class) {
-        value = resources.getStringArray(id);
+        loader = context -> context.getResources().getStringArray(id);
       } else if (componentType == int.class) {
-        value = resources.getIntArray(id);
+        loader = context -> context.getResources().getIntArray(id);
       } else if (componentType == CharSequence.class) {
-        value = resources.getTextArray(id);
+        loader = context -> context.getResources().getTextArray(id);
       } else {
         throw new IllegalStateException("@BindArray field type must be one of: "
             + "String[], int[], CharSequence[], android.content.res.TypedArray. ("
@@ -397,12 +589,10 @@ public final class ButterKnife {
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
-
-    return Unbinder.EMPTY;
+    return new ResourceBinding(field, loader);
   }
 
-  private static @Nullable Unbinder parseBindBitmap(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindBitmap(Field field) {
     BindBitmap bindBitmap = field.getAnnotation(BindBitmap.class);
     if (bindBitmap == null) {
       return null;
@@ -410,25 +600,64 @@ public final class ButterKnife {
     validateMember(field);
 
     int id = bindBitmap.value();
-    Resources resources = source.getContext().getResources();
+    int width = bindBitmap.width();
+    int height = bindBitmap.height();
+    int sampleSize = bindBitmap.sampleSize();
+    Bitmap.Config config = bindBitmap.config();
 
-    Object value;
     Class<?> fieldType = field.getType();
-    if (fieldType == Bitmap.class) {
-      value = BitmapFactory.decodeResource(resources, id);
-    } else {
+    if (fieldType != Bitmap.class) {
       throw new IllegalStateException("@BindBitmap field type must be 'Bitmap'. ("
           + field.getDeclaringClass().getName()
           + '.'
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
+    if (width < 0 || height < 0) {
+      throw new IllegalStateException("@BindBitmap width and height must not be negative. ("
+          + field.getDeclaringClass().getName()
+          + '.'
+          + field.getName()
+          + ')');
+    }
+    if (sampleSize < 1) {
+      throw new IllegalStateException("@BindBitmap sampleSize must be at least 1. ("
+          + field.getDeclaringClass().getName()
+          + '.'
+          + field.getName()
+          + ')');
+    }
 
-    return Unbinder.EMPTY;
+    if (bindBitmap.async()) {
+      return new Binding() {
+        @Override public Unbinder bind(Object target, View source) {
+          BitmapLoader.decodeAsync(source.getResources(), id, width, height, sampleSize, config,
+              bitmap -> trySet(field, target, bitmap));
+          return Unbinder.EMPTY;
+        }
+
+        @Override public Unbinder rebind(Object target, View source, Unbinder existing) {
+          // Resources do not depend on the views so they are kept.
+          return existing;
+        }
+
+        @Override public int viewCount() {
+          return 0;
+        }
+      };
+    }
+
+    ResourceLoader loader;
+    if (width == 0 && height == 0 && sampleSize == 1 && config == Bitmap.Config.ARGB_8888) {
+      loader = context -> BitmapFactory.decodeResource(context.getResources(), id);
+    } else {
+      loader = context -> BitmapLoader.decode(context.getResources(), id, width, height,
+          sampleSize, config);
+    }
+    return new ResourceBinding(field, loader);
   }
 
-  private static @Nullable Unbinder parseBindBool(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindBool(Field field) {
     BindBool bindBool = field.getAnnotation(BindBool.class);
     if (bindBool == null) {
       return null;
@@ -436,12 +665,11 @@ public final class ButterKnife {
     validateMember(field);
 
     int id = bindBool.value();
-    Resources resources = source.getContext().getResources();
 
-    Object value;
+    ResourceLoader loader;
     Class<?> fieldType = field.getType();
     if (fieldType == boolean.class) {
-      value = resources.getBoolean(id);
+      loader = context -> context.getResources().getBoolean(id);
     } else {
       throw new IllegalStateException("@BindBool field type must be 'boolean'. ("
           + field.getDeclaringClass().getName()
@@ -449,12 +677,10 @@ public final class ButterKnife {
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
-
-    return Unbinder.EMPTY;
+    return new ResourceBinding(field, loader);
   }
 
-  private static @Nullable Unbinder parseBindColor(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindColor(Field field) {
     BindColor bindColor = field.getAnnotation(BindColor.class);
     if (bindColor == null) {
       return null;
@@ -462,14 +688,13 @@ public final class ButterKnife {
     validateMember(field);
 
     int id = bindColor.value();
-    Context context = source.getContext();
 
-    Object value;
+    ResourceLoader loader;
     Class<?> fieldType = field.getType();
     if (fieldType == int.class) {
-      value = ContextCompat.getColor(context, id);
+      loader = context -> ContextCompat.getColor(context, id);
     } else if (fieldType == ColorStateList.class) {
-      value = ContextCompat.getColorStateList(context, id);
+      loader = context -> ContextCompat.getColorStateList(context, id);
     } else {
       throw new IllegalStateException("@BindColor field type must be 'int' or 'ColorStateList'. ("
           + field.getDeclaringClass().getName()
@@ -477,12 +702,10 @@ public final class ButterKnife {
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
-
-    return Unbinder.EMPTY;
+    return new ResourceBinding(field, loader);
   }
 
-  private static @Nullable Unbinder parseBindDimen(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindDimen(Field field) {
     BindDimen bindDimen = field.getAnnotation(BindDimen.class);
     if (bindDimen == null) {
       return null;
@@ -490,14 +713,13 @@ public final class ButterKnife {
     validateMember(field);
 
     int id = bindDimen.value();
-    Resources resources = source.getContext().getResources();
 
     Class<?> fieldType = field.getType();
-    Object value;
+    ResourceLoader loader;
     if (fieldType == int.class) {
-      value = resources.getDimensionPixelSize(id);
+      loader = context -> context.getResources().getDimensionPixelSize(id);
     } else if (fieldType == float.class) {
-      value = resources.getDimension(id);
+      loader = context -> context.getResources().getDimension(id);
     } else {
       throw new IllegalStateException("@BindDimen field type must be 'int' or 'float'. ("
           + field.getDeclaringClass().getName()
@@ -505,12 +727,10 @@ public final class ButterKnife {
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
-
-    return Unbinder.EMPTY;
+    return new ResourceBinding(field, loader);
   }
 
-  private static @Nullable Unbinder parseBindDrawable(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindDrawable(Field field) {
     BindDrawable bindDrawable = field.getAnnotation(BindDrawable.class);
     if (bindDrawable == null) {
       return null;
@@ -519,14 +739,13 @@ public final class ButterKnife {
 
     int id = bindDrawable.value();
     int tint = bindDrawable.tint();
-    Context context = source.getContext();
 
     Class<?> fieldType = field.getType();
-    Object value;
+    ResourceLoader loader;
     if (fieldType == Drawable.class) {
-      value = tint != Constants.NO_RES_ID
-          ? Utils.getTintedDrawable(context, id, tint)
-          : ContextCompat.getDrawable(context, id);
+      loader = tint != Constants.NO_RES_ID
+          ? context -> Utils.getTintedDrawable(context, id, tint)
+          : context -> ContextCompat.getDrawable(context, id);
     } else {
       throw new IllegalStateException("@BindDrawable field type must be 'Drawable'. ("
           + field.getDeclaringClass().getName()
@@ -534,12 +753,10 @@ public final class ButterKnife {
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
-
-    return Unbinder.EMPTY;
+    return new ResourceBinding(field, loader);
   }
 
-  private static @Nullable Unbinder parseBindFloat(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindFloat(Field field) {
     BindFloat bindInt = field.getAnnotation(BindFloat.class);
     if (bindInt == null) {
       return null;
@@ -547,12 +764,11 @@ public final class ButterKnife {
     validateMember(field);
 
     int id = bindInt.value();
-    Context context = source.getContext();
 
     Class<?> fieldType = field.getType();
-    Object value;
+    ResourceLoader loader;
     if (fieldType == float.class) {
-      value = Utils.getFloat(context, id);
+      loader = context -> Utils.getFloat(context, id);
     } else {
       throw new IllegalStateException("@BindFloat field type must be 'float'. ("
           + field.getDeclaringClass().getName()
@@ -560,12 +776,10 @@ public final class ButterKnife {
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
-
-    return Unbinder.EMPTY;
+    return new ResourceBinding(field, loader);
   }
 
-  private static @Nullable Unbinder parseBindFont(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindFont(Field field) {
     BindFont bindFont = field.getAnnotation(BindFont.class);
     if (bindFont == null) {
       return null;
@@ -574,20 +788,14 @@ public final class ButterKnife {
 
     int id = bindFont.value();
     int style = bindFont.style();
-    Context context = source.getContext();
 
     Class<?> fieldType = field.getType();
-    Object value;
     if (fieldType == Typeface.class) {
-      Typeface font = ResourcesCompat.getFont(context, id);
       switch (style) {
         case Typeface.NORMAL:
-          value = font;
-          break;
         case Typeface.BOLD:
         case Typeface.ITALIC:
         case Typeface.BOLD_ITALIC:
-          value = Typeface.create(font, style);
           break;
         default:
           throw new IllegalStateException(
@@ -604,12 +812,29 @@ public final class ButterKnife {
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
 
-    return Unbinder.EMPTY;
+    if (bindFont.async()) {
+      return new Binding() {
+        @Override public Unbinder bind(Object target, View source) {
+          FontLoader.getFontAsync(source.getContext(), id, style,
+              typeface -> trySet(field, target, typeface));
+          return Unbinder.EMPTY;
+        }
+
+        @Override public Unbinder rebind(Object target, View source, Unbinder existing) {
+          // Resources do not depend on the views so they are kept.
+          return existing;
+        }
+
+        @Override public int viewCount() {
+          return 0;
+        }
+      };
+    }
+    return new ResourceBinding(field, context -> FontLoader.getFont(context, id, style));
   }
 
-  private static @Nullable Unbinder parseBindInt(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindInt(Field field) {
     BindInt bindInt = field.getAnnotation(BindInt.class);
     if (bindInt == null) {
       return null;
@@ -617,12 +842,11 @@ public final class ButterKnife {
     validateMember(field);
 
     int id = bindInt.value();
-    Resources resources = source.getContext().getResources();
 
     Class<?> fieldType = field.getType();
-    Object value;
+    ResourceLoader loader;
     if (fieldType == int.class) {
-      value = resources.getInteger(id);
+      loader = context -> context.getResources().getInteger(id);
     } else {
       throw new IllegalStateException("@BindInt field type must be 'int'. ("
           + field.getDeclaringClass().getName()
@@ -630,12 +854,10 @@ public final class ButterKnife {
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
-
-    return Unbinder.EMPTY;
+    return new ResourceBinding(field, loader);
   }
 
-  private static @Nullable Unbinder parseBindString(Object target, Field field, View source) {
+  private static @Nullable Binding parseBindString(Field field) {
     BindString bindString = field.getAnnotation(BindString.class);
     if (bindString == null) {
       return null;
@@ -643,12 +865,11 @@ public final class ButterKnife {
     validateMember(field);
 
     int id = bindString.value();
-    Context context = source.getContext();
 
     Class<?> fieldType = field.getType();
-    Object value;
+    ResourceLoader loader;
     if (fieldType == String.class) {
-      value = context.getString(id);
+      loader = context -> context.getString(id);
     } else {
       throw new IllegalStateException("@BindString field type must be 'String'. ("
           + field.getDeclaringClass().getName()
@@ -656,175 +877,235 @@ public final class ButterKnife {
           + field.getName()
           + ')');
     }
-    trySet(field, target, value);
-
-    return Unbinder.EMPTY;
+    return new ResourceBinding(field, loader);
   }
 
-  private static @Nullable Unbinder parseOnCheckedChanged(final Object target, final Method method,
-      View source) {
+  private static @Nullable Binding parseOnCheckedChanged(Method method) {
     OnCheckedChanged onCheckedChanged = method.getAnnotation(OnCheckedChanged.class);
     if (onCheckedChanged == null) {
       return null;
     }
     validateMember(method);
     validateReturnType(method, void.class);
-    final ArgumentTransformer argumentTransformer =
-        createArgumentTransformer(method, ON_CHECKED_CHANGED_TYPES);
-
-    List<CompoundButton> views =
-        findViews(source, onCheckedChanged.value(), isRequired(method), method.getName(),
-            CompoundButton.class);
+    int[] indexMap = createArgumentIndexMap(method, ON_CHECKED_CHANGED_TYPES);
 
-    ViewCollections.set(views, ON_CHECKED_CHANGE,
-        (buttonView, isChecked) -> tryInvoke(method, target,
-            argumentTransformer.transform(buttonView, isChecked)));
+    ListenerFactory<CompoundButton.OnCheckedChangeListener> listenerFactory = null;
+    if (METHOD_HANDLES) {
+      listenerFactory = MethodHandleListeners.onCheckedChanged(method, indexMap);
+    }
+    if (listenerFactory == null) {
+      ArgumentTransformer argumentTransformer =
+          createArgumentTransformer(indexMap, ON_CHECKED_CHANGED_TYPES.length);
+      listenerFactory = target -> (buttonView, isChecked) -> tryInvoke(method, target,
+          argumentTransformer.transform(buttonView, isChecked));
+    }
 
-    return new ListenerUnbinder<>(views, ON_CHECKED_CHANGE);
+    return new ListenerBinding<>(onCheckedChanged.value(), isRequired(method), method.getName(),
+        CompoundButton.class, ON_CHECKED_CHANGE, listenerFactory);
   }
 
-  private static @Nullable Unbinder parseOnClick(final Object target, final Method method,
-      View source) {
+  private static @Nullable Binding parseOnClick(Method method) {
     OnClick onClick = method.getAnnotation(OnClick.class);
     if (onClick == null) {
       return null;
     }
     validateMember(method);
     validateReturnType(method, void.class);
-    final ArgumentTransformer argumentTransformer =
-        createArgumentTransformer(method, ON_CLICK_TYPES);
-
-    List<View> views =
-        findViews(source, onClick.value(), isRequired(method), method.getName(), View.class);
+    int[] indexMap = createArgumentIndexMap(method, ON_CLICK_TYPES);
 
-    ViewCollections.set(views, ON_CLICK,
-        v -> tryInvoke(method, target, argumentTransformer.transform(v)));
+    ListenerFactory<View.OnClickListener> listenerFactory = null;
+    if (METHOD_HANDLES) {
+      listenerFactory = MethodHandleListeners.onClick(method, indexMap);
+    }
+    if (listenerFactory == null) {
+      ArgumentTransformer argumentTransformer =
+          createArgumentTransformer(indexMap, ON_CLICK_TYPES.length);
+      listenerFactory = target -> v -> tryInvoke(method, target, argumentTransformer.transform(v));
+    }
+    long debounce = onClick.debounce();
+    if (debounce < 0) {
+      throw new IllegalStateException("@OnClick debounce must not be negative. ("
+          + method.getDeclaringClass().getName()
+          + '.'
+          + method.getName()
+          + ')');
+    }
+    if (debounce > 0) {
+      ListenerFactory<View.OnClickListener> undebounced = listenerFactory;
+      listenerFactory = target -> {
+        View.OnClickListener listener = undebounced.create(target);
+        return new DebouncingOnClickListener(debounce) {
+          @Override public void doClick(View v) {
+            listener.onClick(v);
+          }
+        };
+      };
+    }
 
-    return new ListenerUnbinder<>(views, ON_CLICK);
+    return new ListenerBinding<>(onClick.value(), isRequired(method), method.getName(),
+        View.class, ON_CLICK, listenerFactory);
   }
 
-  private static @Nullable Unbinder parseOnEditorAction(final Object target, final Method method,
-      View source) {
+  private static @Nullable Binding parseOnEditorAction(Method method) {
     OnEditorAction onEditorAction = method.getAnnotation(OnEditorAction.class);
     if (onEditorAction == null) {
       return null;
     }
     validateMember(method);
     final boolean propagateReturn = validateReturnType(method, boolean.class);
-    final ArgumentTransformer argumentTransformer =
-        createArgumentTransformer(method, ON_EDITOR_ACTION_TYPES);
-
-    List<TextView> views =
-        findViews(source, onEditorAction.value(), isRequired(method), method.getName(),
-            TextView.class);
-
-    ViewCollections.set(views, ON_EDITOR_ACTION, (v, actionId, event) -> {
-      Object value = tryInvoke(method, target, argumentTransformer.transform(v, actionId, event));
-      //noinspection SimplifiableConditionalExpression
-      return propagateReturn
-          ? (boolean) value
-          : true;
-    });
-
-    return new ListenerUnbinder<>(views, ON_EDITOR_ACTION);
+    int[] indexMap = createArgumentIndexMap(method, ON_EDITOR_ACTION_TYPES);
+
+    ListenerFactory<TextView.OnEditorActionListener> listenerFactory = null;
+    if (METHOD_HANDLES) {
+      listenerFactory = MethodHandleListeners.onEditorAction(method, indexMap);
+    }
+    if (listenerFactory == null) {
+      ArgumentTransformer argumentTransformer =
+          createArgumentTransformer(indexMap, ON_EDITOR_ACTION_TYPES.length);
+      listenerFactory = target -> (v, actionId, event) -> {
+        Object value = tryInvoke(method, target, argumentTransformer.transform(v, actionId, event));
+        //noinspection SimplifiableConditionalExpression
+        return propagateReturn
+            ? (boolean) value
+            : true;
+      };
+    }
+
+    return new ListenerBinding<>(onEditorAction.value(), isRequired(method), method.getName(),
+        TextView.class, ON_EDITOR_ACTION, listenerFactory);
   }
 
-  private static @Nullable Unbinder parseOnFocusChange(final Object target, final Method method,
-      View source) {
+  private static @Nullable Binding parseOnFocusChange(Method method) {
     OnFocusChange onFocusChange = method.getAnnotation(OnFocusChange.class);
     if (onFocusChange == null) {
       return null;
     }
     validateMember(method);
     validateReturnType(method, void.class);
-    final ArgumentTransformer argumentTransformer =
-        createArgumentTransformer(method, ON_FOCUS_CHANGE_TYPES);
-
-    List<View> views =
-        findViews(source, onFocusChange.value(), isRequired(method), method.getName(), View.class);
+    int[] indexMap = createArgumentIndexMap(method, ON_FOCUS_CHANGE_TYPES);
 
-    ViewCollections.set(views, ON_FOCUS_CHANGE,
-        (v, hasFocus) -> tryInvoke(method, target, argumentTransformer.transform(v, hasFocus)));
+    ListenerFactory<View.OnFocusChangeListener> listenerFactory = null;
+    if (METHOD_HANDLES) {
+      listenerFactory = MethodHandleListeners.onFocusChange(method, indexMap);
+    }
+    if (listenerFactory == null) {
+      ArgumentTransformer argumentTransformer =
+          createArgumentTransformer(indexMap, ON_FOCUS_CHANGE_TYPES.length);
+      listenerFactory = target ->
+          (v, hasFocus) -> tryInvoke(method, target, argumentTransformer.transform(v, hasFocus));
+    }
 
-    return new ListenerUnbinder<>(views, ON_FOCUS_CHANGE);
+    return new ListenerBinding<>(onFocusChange.value(), isRequired(method), method.getName(),
+        View.class, ON_FOCUS_CHANGE, listenerFactory);
   }
 
-  private static @Nullable Unbinder parseOnItemClick(final Object target, final Method method,
-      View source) {
+  private static @Nullable Binding parseOnItemClick(Method method) {
     OnItemClick onItemClick = method.getAnnotation(OnItemClick.class);
     if (onItemClick == null) {
       return null;
     }
     validateMember(method);
     validateReturnType(method, void.class);
-    final ArgumentTransformer argumentTransformer =
-        createArgumentTransformer(method, ON_ITEM_CLICK_TYPES);
+    int[] indexMap = createArgumentIndexMap(method, ON_ITEM_CLICK_TYPES);
 
-    List<AdapterView<?>> views =
-        findViews(source, onItemClick.value(), isRequired(method), method.getName(),
-            AdapterView.class);
+    ListenerFactory<AdapterView.OnItemClickListener> listenerFactory = null;
+    if (METHOD_HANDLES) {
+      listenerFactory = MethodHandleListeners.onItemClick(method, indexMap);
+    }
+    if (listenerFactory == null) {
+      ArgumentTransformer argumentTransformer =
+          createArgumentTransformer(indexMap, ON_ITEM_CLICK_TYPES.length);
+      listenerFactory = target -> (parent, view, position, id) -> tryInvoke(method, target,
+          argumentTransformer.transform(parent, view, position, id));
+    }
 
-    ViewCollections.set(views, ON_ITEM_CLICK,
-        (parent, view, position, id) -> tryInvoke(method, target,
-            argumentTransformer.transform(parent, view, position, id)));
+    return new ListenerBinding<>(onItemClick.value(), isRequired(method), method.getName(),
+        AdapterView.class, ON_ITEM_CLICK, listenerFactory);
+  }
 
-    return new ListenerUnbinder<>(views, ON_ITEM_CLICK);
+  private static @Nullable Binding parseOnItemViewClick(Method method) {
+    OnItemViewClick onItemViewClick = method.getAnnotation(OnItemViewClick.class);
+    if (onItemViewClick == null) {
+      return null;
+    }
+    validateMember(method);
+    validateReturnType(method, void.class);
+    int[] ids = onItemViewClick.value();
+    if (ids.length == 0) {
+      throw new IllegalStateException("@OnItemViewClick must specify at least one ID. ("
+          + method.getDeclaringClass().getName()
+          + '.'
+          + method.getName()
+          + ')');
+    }
+    int[] indexMap = createArgumentIndexMap(method, ON_ITEM_VIEW_CLICK_TYPES);
+    ArgumentTransformer argumentTransformer =
+        createArgumentTransformer(indexMap, ON_ITEM_VIEW_CLICK_TYPES.length);
+
+    return ItemViewClickBindings.create(method, isRequired(method), onItemViewClick.container(),
+        ids, argumentTransformer);
   }
 
-  private static @Nullable Unbinder parseOnItemLongClick(final Object target, final Method method,
-      View source) {
+  private static @Nullable Binding parseOnItemLongClick(Method method) {
     OnItemLongClick onItemLongClick = method.getAnnotation(OnItemLongClick.class);
     if (onItemLongClick == null) {
       return null;
     }
     validateMember(method);
     final boolean propagateReturn = validateReturnType(method, boolean.class);
-    final ArgumentTransformer argumentTransformer =
-        createArgumentTransformer(method, ON_ITEM_LONG_CLICK_TYPES);
-
-    List<AdapterView<?>> views =
-        findViews(source, onItemLongClick.value(), isRequired(method), method.getName(),
-            AdapterView.class);
-
-    ViewCollections.set(views, ON_ITEM_LONG_CLICK, (parent, view, position, id) -> {
-      Object value =
-          tryInvoke(method, target, argumentTransformer.transform(parent, view, position, id));
-      //noinspection SimplifiableConditionalExpression
-      return propagateReturn
-          ? (boolean) value
-          : true;
-    });
-
-    return new ListenerUnbinder<>(views, ON_ITEM_LONG_CLICK);
+    int[] indexMap = createArgumentIndexMap(method, ON_ITEM_LONG_CLICK_TYPES);
+
+    ListenerFactory<AdapterView.OnItemLongClickListener> listenerFactory = null;
+    if (METHOD_HANDLES) {
+      listenerFactory = MethodHandleListeners.onItemLongClick(method, indexMap);
+    }
+    if (listenerFactory == null) {
+      ArgumentTransformer argumentTransformer =
+          createArgumentTransformer(indexMap, ON_ITEM_LONG_CLICK_TYPES.length);
+      listenerFactory = target -> (parent, view, position, id) -> {
+        Object value =
+            tryInvoke(method, target, argumentTransformer.transform(parent, view, position, id));
+        //noinspection SimplifiableConditionalExpression
+        return propagateReturn
+            ? (boolean) value
+            : true;
+      };
+    }
+
+    return new ListenerBinding<>(onItemLongClick.value(), isRequired(method), method.getName(),
+        AdapterView.class, ON_ITEM_LONG_CLICK, listenerFactory);
   }
 
-  private static @Nullable Unbinder parseOnLongClick(final Object target, final Method method,
-      View source) {
+  private static @Nullable Binding parseOnLongClick(Method method) {
     OnLongClick onLongClick = method.getAnnotation(OnLongClick.class);
     if (onLongClick == null) {
       return null;
     }
     validateMember(method);
     final boolean propagateReturn = validateReturnType(method, boolean.class);
-    final ArgumentTransformer argumentTransformer =
-        createArgumentTransformer(method, ON_LONG_CLICK_TYPES);
-
-    List<View> views =
-        findViews(source, onLongClick.value(), isRequired(method), method.getName(), View.class);
+    int[] indexMap = createArgumentIndexMap(method, ON_LONG_CLICK_TYPES);
 
-    ViewCollections.set(views, ON_LONG_CLICK, v -> {
-      Object returnValue = tryInvoke(method, target, argumentTransformer.transform(v));
-      //noinspection SimplifiableConditionalExpression
-      return propagateReturn
-          ? (boolean) returnValue
-          : true;
-    });
+    ListenerFactory<View.OnLongClickListener> listenerFactory = null;
+    if (METHOD_HANDLES) {
+      listenerFactory = MethodHandleListeners.onLongClick(method, indexMap);
+    }
+    if (listenerFactory == null) {
+      ArgumentTransformer argumentTransformer =
+          createArgumentTransformer(indexMap, ON_LONG_CLICK_TYPES.length);
+      listenerFactory = target -> v -> {
+        Object returnValue = tryInvoke(method, target, argumentTransformer.transform(v));
+        //noinspection SimplifiableConditionalExpression
+        return propagateReturn
+            ? (boolean) returnValue
+            : true;
+      };
+    }
 
-    return new ListenerUnbinder<>(views, ON_LONG_CLICK);
+    return new ListenerBinding<>(onLongClick.value(), isRequired(method), method.getName(),
+        View.class, ON_LONG_CLICK, listenerFactory);
   }
 
-  private static @Nullable Unbinder parseOnPageChange(final Object target, final Method method,
-      View source) {
+  private static @Nullable Binding parseOnPageChange(Method method) {
     OnPageChange onPageChange = method.getAnnotation(OnPageChange.class);
     if (onPageChange == null) {
       return null;
@@ -832,16 +1113,19 @@ public final class ButterKnife {
     validateMember(method);
     validateReturnType(method, void.class);
 
-    List<ViewPager> views =
-        findViews(source, onPageChange.value(), isRequired(method), method.getName(),
-            ViewPager.class);
-
-    ViewPager.OnPageChangeListener listener;
+    ListenerFactory<ViewPager.OnPageChangeListener> listenerFactory = null;
     switch (onPageChange.callback()) {
       case PAGE_SCROLLED: {
+        int[] indexMap = createArgumentIndexMap(method, ON_PAGE_SCROLLED_TYPES);
+        if (METHOD_HANDLES) {
+          listenerFactory = MethodHandleListeners.onPageScrolled(method, indexMap);
+        }
+        if (listenerFactory != null) {
+          break;
+        }
         ArgumentTransformer argumentTransformer =
-            createArgumentTransformer(method, ON_PAGE_SCROLLED_TYPES);
-        listener = new ViewPager.SimpleOnPageChangeListener() {
+            createArgumentTransformer(indexMap, ON_PAGE_SCROLLED_TYPES.length);
+        listenerFactory = target -> new ViewPager.SimpleOnPageChangeListener() {
           @Override public void onPageScrolled(int position, float positionOffset,
               int positionOffsetPixels) {
             tryInvoke(method, target,
@@ -851,9 +1135,16 @@ public final class ButterKnife {
         break;
       }
       case PAGE_SELECTED: {
+        int[] indexMap = createArgumentIndexMap(method, ON_PAGE_SELECTED_TYPES);
+        if (METHOD_HANDLES) {
+          listenerFactory = MethodHandleListeners.onPageSelected(method, indexMap);
+        }
+        if (listenerFactory != null) {
+          break;
+        }
         ArgumentTransformer argumentTransformer =
-            createArgumentTransformer(method, ON_PAGE_SELECTED_TYPES);
-        listener = new ViewPager.SimpleOnPageChangeListener() {
+            createArgumentTransformer(indexMap, ON_PAGE_SELECTED_TYPES.length);
+        listenerFactory = target -> new ViewPager.SimpleOnPageChangeListener() {
           @Override public void onPageSelected(int position) {
             tryInvoke(method, target, argumentTransformer.transform(position));
           }
@@ -861,9 +1152,16 @@ public final class ButterKnife {
         break;
       }
       case PAGE_SCROLL_STATE_CHANGED: {
+        int[] indexMap = createArgumentIndexMap(method, ON_PAGE_SCROLL_STATE_CHANGED_TYPES);
+        if (METHOD_HANDLES) {
+          listenerFactory = MethodHandleListeners.onPageScrollStateChanged(method, indexMap);
+        }
+        if (listenerFactory != null) {
+          break;
+        }
         ArgumentTransformer argumentTransformer =
-            createArgumentTransformer(method, ON_PAGE_SCROLL_STATE_CHANGED_TYPES);
-        listener = new ViewPager.SimpleOnPageChangeListener() {
+            createArgumentTransformer(indexMap, ON_PAGE_SCROLL_STATE_CHANGED_TYPES.length);
+        listenerFactory = target -> new ViewPager.SimpleOnPageChangeListener() {
           @Override public void onPageScrollStateChanged(int state) {
             tryInvoke(method, target, argumentTransformer.transform(state));
           }
@@ -874,11 +1172,17 @@ public final class ButterKnife {
         throw new AssertionError();
     }
 
-    ViewCollections.set(views, ADD_ON_PAGE_CHANGE, listener);
-    return new ListenerUnbinder<>(views, REMOVE_ON_PAGE_CHANGE, listener);
+    if (onPageChange.coalesce() == Coalesce.FRAME) {
+      ListenerFactory<ViewPager.OnPageChangeListener> uncoalesced = listenerFactory;
+      listenerFactory = target ->
+          new CoalescingOnPageChangeListener(uncoalesced.create(target), onPageChange.callback());
+    }
+
+    return new ListenerBinding<>(onPageChange.value(), isRequired(method), method.getName(),
+        ViewPager.class, ADD_ON_PAGE_CHANGE, REMOVE_ON_PAGE_CHANGE, listenerFactory);
   }
 
-  private static @Nullable Unbinder parseOnTextChanged(Object target, Method method, View source) {
+  private static @Nullable Binding parseOnTextChanged(Method method) {
     OnTextChanged onTextChanged = method.getAnnotation(OnTextChanged.class);
     if (onTextChanged == null) {
       return null;
@@ -886,15 +1190,19 @@ public final class ButterKnife {
     validateMember(method);
     validateReturnType(method, void.class);
 
-    List<TextView> views =
-        findViews(source, onTextChanged.value(), isRequired(method), method.getName(), View.class);
-
-    TextWatcher textWatcher;
+    ListenerFactory<TextWatcher> listenerFactory = null;
     switch (onTextChanged.callback()) {
       case TEXT_CHANGED: {
+        int[] indexMap = createArgumentIndexMap(method, ON_TEXT_CHANGED_TYPES);
+        if (METHOD_HANDLES) {
+          listenerFactory = MethodHandleListeners.onTextChanged(method, indexMap);
+        }
+        if (listenerFactory != null) {
+          break;
+        }
         ArgumentTransformer argumentTransformer =
-            createArgumentTransformer(method, ON_TEXT_CHANGED_TYPES);
-        textWatcher = new EmptyTextWatcher() {
+            createArgumentTransformer(indexMap, ON_TEXT_CHANGED_TYPES.length);
+        listenerFactory = target -> new EmptyTextWatcher() {
           @Override public void onTextChanged(CharSequence s, int start, int before, int count) {
             tryInvoke(method, target, argumentTransformer.transform(s, start, before, count));
           }
@@ -902,9 +1210,16 @@ public final class ButterKnife {
         break;
       }
       case BEFORE_TEXT_CHANGED: {
+        int[] indexMap = createArgumentIndexMap(method, BEFORE_TEXT_CHANGED_TYPES);
+        if (METHOD_HANDLES) {
+          listenerFactory = MethodHandleListeners.beforeTextChanged(method, indexMap);
+        }
+        if (listenerFactory != null) {
+          break;
+        }
         ArgumentTransformer argumentTransformer =
-            createArgumentTransformer(method, BEFORE_TEXT_CHANGED_TYPES);
-        textWatcher = new EmptyTextWatcher() {
+            createArgumentTransformer(indexMap, BEFORE_TEXT_CHANGED_TYPES.length);
+        listenerFactory = target -> new EmptyTextWatcher() {
           @Override public void beforeTextChanged(CharSequence s, int start, int count, int after) {
             tryInvoke(method, target, argumentTransformer.transform(s, start, count, after));
           }
@@ -912,9 +1227,16 @@ public final class ButterKnife {
         break;
       }
       case AFTER_TEXT_CHANGED: {
+        int[] indexMap = createArgumentIndexMap(method, AFTER_TEXT_CHANGED_TYPES);
+        if (METHOD_HANDLES) {
+          listenerFactory = MethodHandleListeners.afterTextChanged(method, indexMap);
+        }
+        if (listenerFactory != null) {
+          break;
+        }
         ArgumentTransformer argumentTransformer =
-            createArgumentTransformer(method, AFTER_TEXT_CHANGED_TYPES);
-        textWatcher = new EmptyTextWatcher() {
+            createArgumentTransformer(indexMap, AFTER_TEXT_CHANGED_TYPES.length);
+        listenerFactory = target -> new EmptyTextWatcher() {
           @Override public void afterTextChanged(Editable s) {
             tryInvoke(method, target, argumentTransformer.transform(s));
           }
@@ -925,37 +1247,47 @@ public final class ButterKnife {
         throw new AssertionError();
     }
 
-    ViewCollections.set(views, ADD_TEXT_WATCHER, textWatcher);
-    return new ListenerUnbinder<>(views, REMOVE_TEXT_WATCHER, textWatcher);
+    if (onTextChanged.coalesce() == Coalesce.FRAME) {
+      ListenerFactory<TextWatcher> uncoalesced = listenerFactory;
+      listenerFactory = target ->
+          new CoalescingTextWatcher(uncoalesced.create(target), onTextChanged.callback());
+    }
+
+    return new ListenerBinding<>(onTextChanged.value(), isRequired(method), method.getName(),
+        View.class, ADD_TEXT_WATCHER, REMOVE_TEXT_WATCHER, listenerFactory);
   }
 
-  private static @Nullable Unbinder parseOnTouch(final Object target, final Method method,
-      View source) {
+  private static @Nullable Binding parseOnTouch(Method method) {
     OnTouch onTouch = method.getAnnotation(OnTouch.class);
     if (onTouch == null) {
       return null;
     }
     validateMember(method);
     final boolean propagateReturn = validateReturnType(method, boolean.class);
-    final ArgumentTransformer argumentTransformer =
-        createArgumentTransformer(method, ON_TOUCH_TYPES);
-
-    List<View> views =
-        findViews(source, onTouch.value(), isRequired(method), method.getName(), View.class);
+    int[] indexMap = createArgumentIndexMap(method, ON_TOUCH_TYPES);
 
-    ViewCollections.set(views, ON_TOUCH, (v, event) -> {
-      Object returnValue = tryInvoke(method, target, argumentTransformer.transform(v, event));
-      //noinspection SimplifiableConditionalExpression
-      return propagateReturn
-          ? (boolean) returnValue
-          : true;
-    });
+    ListenerFactory<View.OnTouchListener> listenerFactory = null;
+    if (METHOD_HANDLES) {
+      listenerFactory = MethodHandleListeners.onTouch(method, indexMap);
+    }
+    if (listenerFactory == null) {
+      ArgumentTransformer argumentTransformer =
+          createArgumentTransformer(indexMap, ON_TOUCH_TYPES.length);
+      listenerFactory = target -> (v, event) -> {
+        Object returnValue = tryInvoke(method, target, argumentTransformer.transform(v, event));
+        //noinspection SimplifiableConditionalExpression
+        return propagateReturn
+            ? (boolean) returnValue
+            : true;
+      };
+    }
 
-    return new ListenerUnbinder<>(views, ON_TOUCH);
+    return new ListenerBinding<>(onTouch.value(), isRequired(method), method.getName(),
+        View.class, ON_TOUCH, listenerFactory);
   }
 
   @SuppressWarnings("unchecked")
-  private static <T extends View> List<T> findViews(View source, int[] ids, boolean isRequired,
+  static <T extends View> List<T> findViews(View source, int[] ids, boolean isRequired,
       String name, Class<? extends View> cls) {
     if (ids.length == 1 && ids[0] == View.NO_ID) {
       return singletonList((T) cls.cast(source));
@@ -1013,14 +1345,17 @@ public final class ButterKnife {
     return method.getAnnotation(Optional.class) == null;
   }
 
-  private static ArgumentTransformer createArgumentTransformer(Method method,
-      Class<?>[] callbackParameterTypes) {
+  /**
+   * Match each parameter of {@code method} to a listener callback parameter. The returned array
+   * holds, for every method parameter, the index of the callback argument to pass to it.
+   */
+  private static int[] createArgumentIndexMap(Method method, Class<?>[] callbackParameterTypes) {
     Class<?>[] targetParameterTypes = method.getParameterTypes();
 
     int targetParameterLength = targetParameterTypes.length;
     if (targetParameterLength == 0) {
       // Special case the common case of no arguments.
-      return ArgumentTransformer.EMPTY;
+      return EMPTY_INDEX_MAP;
     }
 
     int callbackParameterLength = callbackParameterTypes.length;
@@ -1033,11 +1368,6 @@ public final class ButterKnife {
           + " parameter(s).");
     }
 
-    if (Arrays.equals(targetParameterTypes, callbackParameterTypes)) {
-      // Special case the common case of exact argument match.
-      return ArgumentTransformer.IDENTITY;
-    }
-
     boolean[] callbackIndexUsed = new boolean[callbackParameterLength];
     final int[] indexMap = new int[targetParameterLength];
     nextTarget: for (int targetIndex = 0; targetIndex < targetParameterLength; targetIndex++) {
@@ -1092,6 +1422,23 @@ public final class ButterKnife {
           "\n\nThese may be listed in any order but will be searched for from top to bottom.");
       throw new IllegalStateException(builder.toString());
     }
+    return indexMap;
+  }
+
+  private static ArgumentTransformer createArgumentTransformer(final int[] indexMap,
+      int callbackParameterLength) {
+    if (indexMap.length == 0) {
+      // Special case the common case of no arguments.
+      return ArgumentTransformer.EMPTY;
+    }
+    boolean identity = true;
+    for (int i = 0; i < indexMap.length; i++) {
+      identity &= indexMap[i] == i;
+    }
+    if (identity && indexMap.length == callbackParameterLength) {
+      // Special case the common case of exact argument match.
+      return ArgumentTransformer.IDENTITY;
+    }
 
     return new ArgumentTransformer() {
       @Override public Object[] transform(Object... arguments) {
@@ -1123,7 +1470,7 @@ public final class ButterKnife {
     }
   }
 
-  private static Object tryInvoke(Method method, Object target, Object... arguments) {
+  static Object tryInvoke(Method method, Object target, Object... arguments) {
     Throwable cause;
     try {
       return method.invoke(target, arguments);
@@ -1137,6 +1484,13 @@ public final class ButterKnife {
             + Arrays.toString(arguments), cause);
   }
 
+  /** Drop the pending delivery of a removed listener so that it cannot reach an unbound target. */
+  private static void cancelCoalesced(Object listener) {
+    if (listener instanceof FrameCoalescer) {
+      ((FrameCoalescer) listener).cancel();
+    }
+  }
+
   private static final Setter<CompoundButton, CompoundButton.OnCheckedChangeListener>
       ON_CHECKED_CHANGE = (view, value, index) -> view.setOnCheckedChangeListener(value);
   private static final Setter<View, View.OnClickListener> ON_CLICK =
@@ -1156,11 +1510,19 @@ public final class ButterKnife {
   private static final Setter<ViewPager, ViewPager.OnPageChangeListener> ADD_ON_PAGE_CHANGE =
       (view, value, index) -> view.addOnPageChangeListener(value);
   private static final Setter<ViewPager, ViewPager.OnPageChangeListener> REMOVE_ON_PAGE_CHANGE =
-      (view, value, index) -> view.removeOnPageChangeListener(value);
+      (view, value, index) -> {
+        view.removeOnPageChangeListener(value);
+        cancelCoalesced(value);
+      };
   private static final Setter<TextView, TextWatcher> ADD_TEXT_WATCHER =
       (view, value, index) -> view.addTextChangedListener(value);
   private static final Setter<TextView, TextWatcher> REMOVE_TEXT_WATCHER =
-      (view, value, index) -> view.removeTextChangedListener(value);
+      (view, value, index) -> {
+        view.removeTextChangedListener(value);
+        cancelCoalesced(value);
+      };
+
+  private static final int[] EMPTY_INDEX_MAP = new int[0];
 
   private static final Class<?>[] ON_CHECKED_CHANGED_TYPES =
       { CompoundButton.class, boolean.class };
@@ -1171,6 +1533,7 @@ public final class ButterKnife {
   private static final Class<?>[] ON_ITEM_CLICK_TYPES =
       { AdapterView.class, View.class, int.class, long.class };
   private static final Class<?>[] ON_ITEM_LONG_CLICK_TYPES = ON_ITEM_CLICK_TYPES;
+  private static final Class<?>[] ON_ITEM_VIEW_CLICK_TYPES = { View.class, int.class };
   private static final Class<?>[] ON_LONG_CLICK_TYPES = ON_CLICK_TYPES;
   private static final Class<?>[] ON_PAGE_SCROLLED_TYPES = { int.class, float.class, int.class };
   private static final Class<?>[] ON_PAGE_SELECTED_TYPES = { int.class };
@@ -1181,7 +1544,7 @@ public final class ButterKnife {
   private static final Class<?>[] AFTER_TEXT_CHANGED_TYPES = { Editable.class };
   private static final Class<?>[] ON_TOUCH_TYPES = { View.class, MotionEvent.class };
 
-  private interface ArgumentTransformer {
+  interface ArgumentTransformer {
     ArgumentTransformer EMPTY = new ArgumentTransformer() {
       private final Object[] empty = new Object[0];
 
@@ -0,0 +1,62 @@
+package butterknife;
+
+import androidx.viewpager.widget.ViewPager;
+import butterknife.internal.FrameCoalescer;
+
+/** Forwards the latest event of {@code callback} to {@code delegate} once per frame. */
+final class CoalescingOnPageChangeListener extends FrameCoalescer
+    implements ViewPager.OnPageChangeListener {
+  private final ViewPager.OnPageChangeListener delegate;
+  private final OnPageChange.Callback callback;
+  private int arg0;
+  private float arg1;
+  private int arg2;
+
+  CoalescingOnPageChangeListener(ViewPager.OnPageChangeListener delegate,
+      OnPageChange.Callback callback) {
+    this.delegate = delegate;
+    this.callback = callback;
+  }
+
+  @Override public void onPageScrolled(int position, float positionOffset,
+      int positionOffsetPixels) {
+    if (callback == OnPageChange.Callback.PAGE_SCROLLED) {
+      record(position, positionOffset, positionOffsetPixels);
+    }
+  }
+
+  @Override public void onPageSelected(int position) {
+    if (callback == OnPageChange.Callback.PAGE_SELECTED) {
+      record(position, 0, 0);
+    }
+  }
+
+  @Override public void onPageScrollStateChanged(int state) {
+    if (callback == OnPageChange.Callback.PAGE_SCROLL_STATE_CHANGED) {
+      record(state, 0, 0);
+    }
+  }
+
+  private void record(int arg0, float arg1, int arg2) {
+    this.arg0 = arg0;
+    this.arg1 = arg1;
+    this.arg2 = arg2;
+    schedule();
+  }
+
+  @Override public void deliver() {
+    switch (callback) {
+      case PAGE_SCROLLED:
+        delegate.onPageScrolled(arg0, arg1, arg2);
+        break;
+      case PAGE_SELECTED:
+        delegate.onPageSelected(arg0);
+        break;
+      case PAGE_SCROLL_STATE_CHANGED:
+        delegate.onPageScrollStateChanged(arg0);
+        break;
+      default:
+        throw new AssertionError();
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package butterknife;
+
+import android.text.Editable;
+import android.text.TextWatcher;
+import butterknife.internal.FrameCoalescer;
+
+/** Forwards the latest event of {@code callback} to {@code delegate} once per frame. */
+final class CoalescingTextWatcher extends FrameCoalescer implements TextWatcher {
+  private final TextWatcher delegate;
+  private final OnTextChanged.Callback callback;
+  private CharSequence text;
+  private int arg1;
+  private int arg2;
+  private int arg3;
+
+  CoalescingTextWatcher(TextWatcher delegate, OnTextChanged.Callback callback) {
+    this.delegate = delegate;
+    this.callback = callback;
+  }
+
+  @Override public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+    if (callback == OnTextChanged.Callback.BEFORE_TEXT_CHANGED) {
+      record(s, start, count, after);
+    }
+  }
+
+  @Override public void onTextChanged(CharSequence s, int start, int before, int count) {
+    if (callback == OnTextChanged.Callback.TEXT_CHANGED) {
+      record(s, start, before, count);
+    }
+  }
+
+  @Override public void afterTextChanged(Editable s) {
+    if (callback == OnTextChanged.Callback.AFTER_TEXT_CHANGED) {
+      record(s, 0, 0, 0);
+    }
+  }
+
+  private void record(CharSequence text, int arg1, int arg2, int arg3) {
+    this.text = text;
+    this.arg1 = arg1;
+    this.arg2 = arg2;
+    this.arg3 = arg3;
+    schedule();
+  }
+
+  @Override public void deliver() {
+    switch (callback) {
+      case BEFORE_TEXT_CHANGED:
+        delegate.beforeTextChanged(text, arg1, arg2, arg3);
+        break;
+      case TEXT_CHANGED:
+        delegate.onTextChanged(text, arg1, arg2, arg3);
+        break;
+      case AFTER_TEXT_CHANGED:
+        delegate.afterTextChanged((Editable) text);
+        break;
+      default:
+        throw new AssertionError();
+    }
+  }
+}
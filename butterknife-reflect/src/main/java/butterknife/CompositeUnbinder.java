@@ -1,16 +1,33 @@
 package butterknife;
 
+import android.view.View;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import butterknife.internal.Rebindable;
 import java.util.List;
 
-final class CompositeUnbinder implements Unbinder {
+final class CompositeUnbinder implements Unbinder, Rebindable {
+  private final Object target;
+  private final List<Binding> bindings;
   private @Nullable List<Unbinder> unbinders;
 
-  CompositeUnbinder(@NonNull List<Unbinder> unbinders) {
+  CompositeUnbinder(@NonNull Object target, @NonNull List<Binding> bindings,
+      @NonNull List<Unbinder> unbinders) {
+    this.target = target;
+    this.bindings = bindings;
     this.unbinders = unbinders;
   }
 
+  @Override public void rebind(@NonNull View source) {
+    List<Unbinder> unbinders = this.unbinders;
+    if (unbinders == null) {
+      throw new IllegalStateException("Bindings already cleared.");
+    }
+    for (int i = 0, count = unbinders.size(); i < count; i++) {
+      unbinders.set(i, bindings.get(i).rebind(target, source, unbinders.get(i)));
+    }
+  }
+
   @Override public void unbind() {
     if (unbinders == null) {
       throw new IllegalStateException("Bindings already cleared.");
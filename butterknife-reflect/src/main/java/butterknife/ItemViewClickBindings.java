@@ -0,0 +1,40 @@
+package butterknife;
+
+import android.view.View;
+import androidx.annotation.IdRes;
+import androidx.recyclerview.widget.RecyclerView;
+import butterknife.ButterKnife.ArgumentTransformer;
+import butterknife.internal.ItemViewClickListener;
+import java.lang.reflect.Method;
+
+import static butterknife.ButterKnife.tryInvoke;
+
+/**
+ * Bindings of {@link OnItemViewClick} methods. Kept separate from {@link ButterKnife} so that
+ * {@link RecyclerView}, which is only on the classpath of apps that use it, is not loaded until a
+ * method with this annotation is found.
+ */
+final class ItemViewClickBindings {
+  private ItemViewClickBindings() {
+    throw new AssertionError();
+  }
+
+  static Binding create(Method method, boolean isRequired, @IdRes int container, int[] ids,
+      ArgumentTransformer argumentTransformer) {
+    // Each method gets a listener of its own since any number can be added to the container.
+    ListenerFactory<RecyclerView.OnItemTouchListener> listenerFactory =
+        target -> new ItemViewClickListener(ids) {
+          @Override public void onItemViewClick(View view, int position) {
+            tryInvoke(method, target, argumentTransformer.transform(view, position));
+          }
+        };
+
+    return new ListenerBinding<>(new int[] { container }, isRequired, method.getName(),
+        RecyclerView.class, ADD_ON_ITEM_TOUCH, REMOVE_ON_ITEM_TOUCH, listenerFactory);
+  }
+
+  private static final Setter<RecyclerView, RecyclerView.OnItemTouchListener>
+      ADD_ON_ITEM_TOUCH = (view, value, index) -> view.addOnItemTouchListener(value);
+  private static final Setter<RecyclerView, RecyclerView.OnItemTouchListener>
+      REMOVE_ON_ITEM_TOUCH = (view, value, index) -> view.removeOnItemTouchListener(value);
+}
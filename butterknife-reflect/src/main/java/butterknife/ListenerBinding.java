@@ -0,0 +1,52 @@
+package butterknife;
+
+import android.view.View;
+import androidx.annotation.Nullable;
+import java.util.List;
+
+import static butterknife.ButterKnife.findViews;
+
+final class ListenerBinding<V extends View, L> implements Binding {
+  private final int[] ids;
+  private final boolean isRequired;
+  private final String name;
+  private final Class<? extends View> viewClass;
+  private final Setter<V, L> setter;
+  private final @Nullable Setter<V, L> removeSetter;
+  private final ListenerFactory<L> listenerFactory;
+
+  ListenerBinding(int[] ids, boolean isRequired, String name, Class<? extends View> viewClass,
+      Setter<V, L> setter, ListenerFactory<L> listenerFactory) {
+    this(ids, isRequired, name, viewClass, setter, null, listenerFactory);
+  }
+
+  ListenerBinding(int[] ids, boolean isRequired, String name, Class<? extends View> viewClass,
+      Setter<V, L> setter, @Nullable Setter<V, L> removeSetter,
+      ListenerFactory<L> listenerFactory) {
+    this.ids = ids;
+    this.isRequired = isRequired;
+    this.name = name;
+    this.viewClass = viewClass;
+    this.setter = setter;
+    this.removeSetter = removeSetter;
+    this.listenerFactory = listenerFactory;
+  }
+
+  @Override public Unbinder bind(Object target, View source) {
+    List<V> views = findViews(source, ids, isRequired, name, viewClass);
+    L listener = listenerFactory.create(target);
+    ViewCollections.set(views, setter, listener);
+    return new ListenerUnbinder<>(views, setter, removeSetter, listener);
+  }
+
+  @SuppressWarnings("unchecked") // Only ever passed the unbinder returned from bind.
+  @Override public Unbinder rebind(Object target, View source, Unbinder existing) {
+    List<V> views = findViews(source, ids, isRequired, name, viewClass);
+    ((ListenerUnbinder<V, L>) existing).rebind(views);
+    return existing;
+  }
+
+  @Override public int viewCount() {
+    return ids.length;
+  }
+}
@@ -0,0 +1,6 @@
+package butterknife;
+
+/** Creates a listener which invokes a bound method on {@code target}. */
+interface ListenerFactory<L> {
+  L create(Object target);
+}
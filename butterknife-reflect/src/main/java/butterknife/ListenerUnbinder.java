@@ -1,26 +1,35 @@
 package butterknife;
 
 import android.view.View;
+import androidx.annotation.Nullable;
 import java.util.List;
 
 final class ListenerUnbinder<V extends View, L> implements Unbinder {
-  private final List<V> targets;
+  private List<V> targets;
   private final Setter<V, L> setter;
+  private final @Nullable Setter<V, L> removeSetter;
   private final L listener;
 
-  ListenerUnbinder(List<V> targets, Setter<V, L> setter) {
+  ListenerUnbinder(List<V> targets, Setter<V, L> setter, @Nullable Setter<V, L> removeSetter,
+      L listener) {
     this.targets = targets;
     this.setter = setter;
-    this.listener = null;
+    this.removeSetter = removeSetter;
+    this.listener = listener;
   }
 
-  ListenerUnbinder(List<V> targets, Setter<V, L> setter, L listener) {
-    this.targets = targets;
-    this.setter = setter;
-    this.listener = listener;
+  /** Move the listener from the current targets onto {@code newTargets}. */
+  void rebind(List<V> newTargets) {
+    unbind();
+    ViewCollections.set(newTargets, setter, listener);
+    targets = newTargets;
   }
 
   @Override public void unbind() {
-    ViewCollections.set(targets, setter, listener);
+    if (removeSetter != null) {
+      ViewCollections.set(targets, removeSetter, listener);
+    } else {
+      ViewCollections.set(targets, setter, null);
+    }
   }
 }
@@ -0,0 +1,310 @@
+package butterknife;
+
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.view.KeyEvent;
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.AdapterView;
+import android.widget.CompoundButton;
+import android.widget.TextView;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.viewpager.widget.ViewPager;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Listeners which call their method through a {@link MethodHandle} adapted to the exact listener
+ * signature. Unlike {@link Method#invoke} this neither allocates an argument array nor boxes
+ * primitive arguments on each callback. The handle is adapted once per method and only bound to
+ * each target.
+ * <p>
+ * Each factory returns null when a handle cannot be created so that the caller can fall back to
+ * reflection. Kept separate from {@link ButterKnife} so that its references to
+ * {@code java.lang.invoke} types do not fail verification on older platforms.
+ */
+@RequiresApi(26)
+final class MethodHandleListeners {
+  private MethodHandleListeners() {
+    throw new AssertionError();
+  }
+
+  static @Nullable ListenerFactory<CompoundButton.OnCheckedChangeListener> onCheckedChanged(
+      Method method, int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, void.class, CompoundButton.class, boolean.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return (buttonView, isChecked) -> {
+        try {
+          bound.invokeExact(buttonView, isChecked);
+        } catch (Throwable t) {
+          throw invokeFailed(method, target, t);
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<View.OnClickListener> onClick(Method method, int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, void.class, View.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return v -> {
+        try {
+          bound.invokeExact(v);
+        } catch (Throwable t) {
+          throw invokeFailed(method, target, t);
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<TextView.OnEditorActionListener> onEditorAction(Method method,
+      int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, boolean.class, TextView.class, int.class,
+        KeyEvent.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return (v, actionId, event) -> {
+        try {
+          return (boolean) bound.invokeExact(v, actionId, event);
+        } catch (Throwable t) {
+          throw invokeFailed(method, target, t);
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<View.OnFocusChangeListener> onFocusChange(Method method,
+      int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, void.class, View.class, boolean.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return (v, hasFocus) -> {
+        try {
+          bound.invokeExact(v, hasFocus);
+        } catch (Throwable t) {
+          throw invokeFailed(method, target, t);
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<AdapterView.OnItemClickListener> onItemClick(Method method,
+      int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, void.class, AdapterView.class, View.class,
+        int.class, long.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return (parent, view, position, id) -> {
+        try {
+          bound.invokeExact(parent, view, position, id);
+        } catch (Throwable t) {
+          throw invokeFailed(method, target, t);
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<AdapterView.OnItemLongClickListener> onItemLongClick(
+      Method method, int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, boolean.class, AdapterView.class, View.class,
+        int.class, long.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return (parent, view, position, id) -> {
+        try {
+          return (boolean) bound.invokeExact(parent, view, position, id);
+        } catch (Throwable t) {
+          throw invokeFailed(method, target, t);
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<View.OnLongClickListener> onLongClick(Method method,
+      int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, boolean.class, View.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return v -> {
+        try {
+          return (boolean) bound.invokeExact(v);
+        } catch (Throwable t) {
+          throw invokeFailed(method, target, t);
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<ViewPager.OnPageChangeListener> onPageScrolled(Method method,
+      int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, void.class, int.class, float.class, int.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return new ViewPager.SimpleOnPageChangeListener() {
+        @Override public void onPageScrolled(int position, float positionOffset,
+            int positionOffsetPixels) {
+          try {
+            bound.invokeExact(position, positionOffset, positionOffsetPixels);
+          } catch (Throwable t) {
+            throw invokeFailed(method, target, t);
+          }
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<ViewPager.OnPageChangeListener> onPageSelected(Method method,
+      int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, void.class, int.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return new ViewPager.SimpleOnPageChangeListener() {
+        @Override public void onPageSelected(int position) {
+          try {
+            bound.invokeExact(position);
+          } catch (Throwable t) {
+            throw invokeFailed(method, target, t);
+          }
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<ViewPager.OnPageChangeListener> onPageScrollStateChanged(
+      Method method, int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, void.class, int.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return new ViewPager.SimpleOnPageChangeListener() {
+        @Override public void onPageScrollStateChanged(int state) {
+          try {
+            bound.invokeExact(state);
+          } catch (Throwable t) {
+            throw invokeFailed(method, target, t);
+          }
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<TextWatcher> onTextChanged(Method method, int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, void.class, CharSequence.class, int.class,
+        int.class, int.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return new EmptyTextWatcher() {
+        @Override public void onTextChanged(CharSequence s, int start, int before, int count) {
+          try {
+            bound.invokeExact(s, start, before, count);
+          } catch (Throwable t) {
+            throw invokeFailed(method, target, t);
+          }
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<TextWatcher> beforeTextChanged(Method method, int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, void.class, CharSequence.class, int.class,
+        int.class, int.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return new EmptyTextWatcher() {
+        @Override public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+          try {
+            bound.invokeExact(s, start, count, after);
+          } catch (Throwable t) {
+            throw invokeFailed(method, target, t);
+          }
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<TextWatcher> afterTextChanged(Method method, int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, void.class, Editable.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return new EmptyTextWatcher() {
+        @Override public void afterTextChanged(Editable s) {
+          try {
+            bound.invokeExact(s);
+          } catch (Throwable t) {
+            throw invokeFailed(method, target, t);
+          }
+        }
+      };
+    };
+  }
+
+  static @Nullable ListenerFactory<View.OnTouchListener> onTouch(Method method, int[] indexMap) {
+    MethodHandle handle = create(method, indexMap, boolean.class, View.class, MotionEvent.class);
+    if (handle == null) return null;
+    return target -> {
+      MethodHandle bound = handle.bindTo(target);
+      return (v, event) -> {
+        try {
+          return (boolean) bound.invokeExact(v, event);
+        } catch (Throwable t) {
+          throw invokeFailed(method, target, t);
+        }
+      };
+    };
+  }
+
+  /**
+   * Create a handle to {@code method} whose type, after binding the receiver, is exactly that of
+   * the listener callback. Listener arguments are reordered, dropped, and cast according to
+   * {@code indexMap}. A void method invoked for a boolean callback returns true.
+   */
+  private static @Nullable MethodHandle create(Method method, int[] indexMap,
+      Class<?> callbackReturnType, Class<?>... callbackParameterTypes) {
+    MethodHandle handle;
+    try {
+      handle = MethodHandles.lookup().unreflect(method);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+
+    // The receiver stays the leading parameter so the handle can be bound to each target.
+    Class<?> receiverType = method.getDeclaringClass();
+    Class<?> returnType = method.getReturnType();
+    Class<?>[] mappedParameterTypes = new Class<?>[indexMap.length];
+    int[] reorder = new int[indexMap.length + 1];
+    for (int i = 0; i < indexMap.length; i++) {
+      mappedParameterTypes[i] = callbackParameterTypes[indexMap[i]];
+      reorder[i + 1] = indexMap[i] + 1;
+    }
+    handle = handle.asType(MethodType.methodType(returnType, mappedParameterTypes)
+        .insertParameterTypes(0, receiverType));
+    handle = MethodHandles.permuteArguments(handle,
+        MethodType.methodType(returnType, callbackParameterTypes)
+            .insertParameterTypes(0, receiverType),
+        reorder);
+    if (returnType != callbackReturnType) {
+      handle = MethodHandles.filterReturnValue(handle, MethodHandles.constant(boolean.class, true));
+    }
+    return handle;
+  }
+
+  private static RuntimeException invokeFailed(Method method, Object target, Throwable cause) {
+    return new RuntimeException("Unable to invoke " + method + " on " + target, cause);
+  }
+}
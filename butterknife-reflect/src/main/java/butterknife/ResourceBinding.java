@@ -0,0 +1,35 @@
+package butterknife;
+
+import android.content.Context;
+import android.view.View;
+import java.lang.reflect.Field;
+
+import static butterknife.ButterKnife.trySet;
+
+final class ResourceBinding implements Binding {
+  interface ResourceLoader {
+    Object load(Context context);
+  }
+
+  private final Field field;
+  private final ResourceLoader loader;
+
+  ResourceBinding(Field field, ResourceLoader loader) {
+    this.field = field;
+    this.loader = loader;
+  }
+
+  @Override public Unbinder bind(Object target, View source) {
+    trySet(field, target, loader.load(source.getContext()));
+    return Unbinder.EMPTY;
+  }
+
+  @Override public Unbinder rebind(Object target, View source, Unbinder existing) {
+    // Resources do not depend on the views so they are kept.
+    return existing;
+  }
+
+  @Override public int viewCount() {
+    return 0;
+  }
+}
@@ -0,0 +1,22 @@
+package butterknife;
+
+import android.view.View;
+import androidx.annotation.IdRes;
+import butterknife.internal.Utils;
+import java.util.List;
+
+/** The bindings of a target class and the container in which their views are looked up. */
+final class TargetBindings {
+  /** The {@link BindRoot} container, or {@link View#NO_ID} to look up views in the source. */
+  private final @IdRes int rootId;
+  final List<Binding> bindings;
+
+  TargetBindings(@IdRes int rootId, List<Binding> bindings) {
+    this.rootId = rootId;
+    this.bindings = bindings;
+  }
+
+  View root(View source) {
+    return rootId != View.NO_ID ? Utils.findRoot(source, rootId) : source;
+  }
+}
@@ -0,0 +1,160 @@
+package butterknife;
+
+import android.text.TextWatcher;
+import android.view.View;
+import android.widget.AdapterView;
+import androidx.viewpager.widget.ViewPager;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Calls {@link MethodHandleListeners} directly since {@link ButterKnife} only uses it on API 26
+ * and above, which these tests do not run on. Android types are passed as null because the
+ * framework stubs cannot be instantiated.
+ */
+public final class MethodHandleListenersTest {
+  public static final class Target {
+    final List<String> calls = new ArrayList<>();
+    boolean longClickResult;
+
+    public void noArguments() {
+      calls.add("noArguments");
+    }
+
+    public void view(View view) {
+      calls.add("view " + view);
+    }
+
+    public boolean longClick() {
+      calls.add("longClick");
+      return longClickResult;
+    }
+
+    public void itemClick(long id, int position) {
+      calls.add("itemClick " + id + " " + position);
+    }
+
+    public void textChanged(int count, String text) {
+      calls.add("textChanged " + count + " " + text);
+    }
+
+    public void pageScrolled(float offset, int position) {
+      calls.add("pageScrolled " + offset + " " + position);
+    }
+
+    public void fails() {
+      throw new IllegalStateException("Broken!");
+    }
+
+    private void inaccessible() {
+    }
+  }
+
+  @Test public void noArguments() throws NoSuchMethodException {
+    Target target = new Target();
+    ListenerFactory<View.OnClickListener> factory =
+        MethodHandleListeners.onClick(method("noArguments"), new int[0]);
+    assertThat(factory).isNotNull();
+
+    View.OnClickListener listener = factory.create(target);
+    listener.onClick(null);
+    listener.onClick(null);
+    assertThat(target.calls).containsExactly("noArguments", "noArguments");
+  }
+
+  @Test public void argumentPassed() throws NoSuchMethodException {
+    Target target = new Target();
+    MethodHandleListeners.onClick(method("view", View.class), new int[] { 0 })
+        .create(target)
+        .onClick(null);
+    assertThat(target.calls).containsExactly("view null");
+  }
+
+  @Test public void eachTargetBoundSeparately() throws NoSuchMethodException {
+    Target first = new Target();
+    Target second = new Target();
+    ListenerFactory<View.OnClickListener> factory =
+        MethodHandleListeners.onClick(method("noArguments"), new int[0]);
+    View.OnClickListener firstListener = factory.create(first);
+    factory.create(second).onClick(null);
+    firstListener.onClick(null);
+    firstListener.onClick(null);
+    assertThat(first.calls).hasSize(2);
+    assertThat(second.calls).hasSize(1);
+  }
+
+  @Test public void returnValuePassedThrough() throws NoSuchMethodException {
+    Target target = new Target();
+    View.OnLongClickListener listener =
+        MethodHandleListeners.onLongClick(method("longClick"), new int[0]).create(target);
+    assertThat(listener.onLongClick(null)).isFalse();
+    target.longClickResult = true;
+    assertThat(listener.onLongClick(null)).isTrue();
+  }
+
+  @Test public void voidMethodReturnsTrue() throws NoSuchMethodException {
+    Target target = new Target();
+    View.OnLongClickListener listener =
+        MethodHandleListeners.onLongClick(method("noArguments"), new int[0]).create(target);
+    assertThat(listener.onLongClick(null)).isTrue();
+    assertThat(target.calls).containsExactly("noArguments");
+  }
+
+  @Test public void primitiveArgumentsReordered() throws NoSuchMethodException {
+    Target target = new Target();
+    AdapterView.OnItemClickListener listener = MethodHandleListeners.onItemClick(
+        method("itemClick", long.class, int.class), new int[] { 3, 2 }).create(target);
+    listener.onItemClick(null, null, 4, 5L);
+    assertThat(target.calls).containsExactly("itemClick 5 4");
+  }
+
+  @Test public void argumentsDroppedAndCast() throws NoSuchMethodException {
+    Target target = new Target();
+    TextWatcher watcher = MethodHandleListeners.onTextChanged(
+        method("textChanged", int.class, String.class), new int[] { 3, 0 }).create(target);
+    watcher.beforeTextChanged("ignored", 0, 0, 0);
+    watcher.onTextChanged("Hey", 1, 2, 3);
+    assertThat(target.calls).containsExactly("textChanged 3 Hey");
+  }
+
+  @Test public void pageScrolled() throws NoSuchMethodException {
+    Target target = new Target();
+    ViewPager.OnPageChangeListener listener = MethodHandleListeners.onPageScrolled(
+        method("pageScrolled", float.class, int.class), new int[] { 1, 0 }).create(target);
+    listener.onPageScrolled(2, 0.5f, 10);
+    listener.onPageSelected(3);
+    assertThat(target.calls).containsExactly("pageScrolled 0.5 2");
+  }
+
+  @Test public void failureWrapped() throws NoSuchMethodException {
+    Target target = new Target();
+    View.OnClickListener listener =
+        MethodHandleListeners.onClick(method("fails"), new int[0]).create(target);
+    try {
+      listener.onClick(null);
+      fail();
+    } catch (RuntimeException e) {
+      assertThat(e).hasMessageThat().startsWith("Unable to invoke ");
+      assertThat(e).hasCauseThat().isInstanceOf(IllegalStateException.class);
+      assertThat(e).hasCauseThat().hasMessageThat().isEqualTo("Broken!");
+    }
+  }
+
+  @Test public void inaccessibleMethodFallsBack() throws NoSuchMethodException {
+    Method method = Target.class.getDeclaredMethod("inaccessible");
+    assertThat(MethodHandleListeners.onClick(method, new int[0])).isNull();
+
+    method.setAccessible(true);
+    assertThat(MethodHandleListeners.onClick(method, new int[0])).isNotNull();
+  }
+
+  private static Method method(String name, Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    return Target.class.getDeclaredMethod(name, parameterTypes);
+  }
+}
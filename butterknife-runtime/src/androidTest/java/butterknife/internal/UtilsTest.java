@@ -1,6 +1,7 @@
 package butterknife.internal;
 
 import android.content.Context;
+import android.graphics.drawable.Drawable;
 import android.view.View;
 import androidx.test.InstrumentationRegistry;
 import org.junit.Test;
@@ -35,6 +36,26 @@ public final class UtilsTest {
     }
   }
 
+  @Test public void tintedDrawablesShareConstantState() {
+    Context context = InstrumentationRegistry.getContext();
+    Drawable first = Utils.getTintedDrawable(context, android.R.drawable.ic_delete,
+        android.R.attr.textColorPrimary);
+    Drawable second = Utils.getTintedDrawable(context, android.R.drawable.ic_delete,
+        android.R.attr.textColorPrimary);
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getConstantState()).isSameAs(first.getConstantState());
+  }
+
+  @Test public void mutatingFirstTintedDrawableDoesNotChangeLaterOnes() {
+    Context context = InstrumentationRegistry.getContext();
+    Drawable first = Utils.getTintedDrawable(context, android.R.drawable.ic_menu_add,
+        android.R.attr.textColorPrimary);
+    first.mutate().setAlpha(10);
+    Drawable second = Utils.getTintedDrawable(context, android.R.drawable.ic_menu_add,
+        android.R.attr.textColorPrimary);
+    assertThat(second.getAlpha()).isEqualTo(255);
+  }
+
   static final class EditModeView extends View {
     EditModeView(Context context) {
       super(context);
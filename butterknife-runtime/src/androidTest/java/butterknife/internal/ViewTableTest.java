@@ -0,0 +1,119 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.ListView;
+import android.widget.TextView;
+import androidx.test.InstrumentationRegistry;
+import java.util.List;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+public final class ViewTableTest {
+  private final Context context = InstrumentationRegistry.getContext();
+
+  @Test public void findsSameViewsAsFindViewById() {
+    FrameLayout root = new FrameLayout(context);
+    root.setId(1);
+    FrameLayout group = new FrameLayout(context);
+    group.setId(2);
+    View nested = new View(context);
+    nested.setId(3);
+    group.addView(nested);
+    root.addView(group);
+    View sibling = new View(context);
+    sibling.setId(3);
+    root.addView(sibling);
+    View other = new View(context);
+    other.setId(4);
+    root.addView(other);
+
+    ViewTable table = ViewTable.find(root, 1, 2, 3, 4, 5);
+    for (int id = 1; id <= 5; id++) {
+      assertThat(table.findViewById(id)).isSameAs(root.findViewById(id));
+    }
+    assertThat(table.findViewById(3)).isSameAs(nested);
+    assertThat(table.findViewById(5)).isNull();
+  }
+
+  @Test public void listViewHeadersAreNotFound() {
+    ListView list = new ListView(context);
+    list.setId(1);
+    View header = new View(context);
+    header.setId(2);
+    list.addHeaderView(header);
+
+    ViewTable table = ViewTable.find(list, 1, 2);
+    assertThat(table.findViewById(1)).isSameAs(list);
+    // ListView searches its header views itself, but they are not its children until laid out.
+    View found = list.findViewById(2);
+    assertThat(found).isSameAs(header);
+    assertThat(table.findViewById(2)).isNull();
+  }
+
+  @Test public void noIdIsNeverFound() {
+    View view = new View(context);
+    ViewTable table = ViewTable.find(view, View.NO_ID);
+    assertThat(table.findViewById(View.NO_ID)).isNull();
+  }
+
+  @Test public void requiredViewThrowsNiceError() {
+    View view = new View(context);
+    ViewTable table = ViewTable.find(view, android.R.id.button1);
+    try {
+      table.findRequiredView(android.R.id.button1, "yo mama");
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Required view 'button1' with ID "
+          + android.R.id.button1
+          + " for yo mama was not found. If this view is optional add '@Nullable' (fields) or '@Optional' (methods) annotation.");
+    }
+  }
+
+  @Test public void arrayAndListSkipMissingViews() {
+    FrameLayout root = new FrameLayout(context);
+    View one = new View(context);
+    one.setId(1);
+    root.addView(one);
+    View three = new View(context);
+    three.setId(3);
+    root.addView(three);
+
+    ViewTable table = ViewTable.find(root, 1, 2, 3);
+    View[] array = table.optionalArray(View.class, "yo mama", 1, 2, 3);
+    assertThat(array).asList().containsExactly(one, three).inOrder();
+    List<View> list = table.list(View.class, 3, 2, 1);
+    assertThat(list).containsExactly(three, one).inOrder();
+  }
+
+  @Test public void requiredArrayThrowsNiceError() {
+    View view = new View(context);
+    view.setId(1);
+    ViewTable table = ViewTable.find(view, 1, android.R.id.button1);
+    try {
+      table.requiredArray(View.class, "yo mama", 1, android.R.id.button1);
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Required view 'button1' with ID "
+          + android.R.id.button1
+          + " for yo mama was not found. If this view is optional add '@Nullable' (fields) or '@Optional' (methods) annotation.");
+    }
+  }
+
+  @Test public void requiredListChecksType() {
+    View view = new View(context);
+    view.setId(android.R.id.button1);
+    ViewTable table = ViewTable.find(view, android.R.id.button1);
+    try {
+      table.requiredList(TextView.class, "yo mama", android.R.id.button1);
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("View 'button1' with ID "
+          + android.R.id.button1
+          + " for yo mama was of the wrong type. See cause for more info.");
+    }
+  }
+}
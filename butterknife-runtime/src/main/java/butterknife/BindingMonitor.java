@@ -0,0 +1,20 @@
+package butterknife;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Receives measurements of each bind. Install with {@code ButterKnife.setMonitor}. Binding is not
+ * measured when no monitor is installed.
+ */
+public interface BindingMonitor {
+  /**
+   * Called on the binding thread after each bind of {@code targetClass}.
+   *
+   * @param cached True when the binding for {@code targetClass} had already been resolved.
+   * @param lookupNanos Time taken to resolve the binding for {@code targetClass}.
+   * @param bindNanos Time taken to apply the binding to the target.
+   * @param viewCount Number of views looked up by ID in the source hierarchy.
+   */
+  void onBind(@NonNull Class<?> targetClass, boolean cached, long lookupNanos, long bindNanos,
+      int viewCount);
+}
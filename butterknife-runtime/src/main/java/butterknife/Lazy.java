@@ -0,0 +1,14 @@
+package butterknife;
+
+import androidx.annotation.UiThread;
+
+/**
+ * A view which is looked up the first time it is requested instead of when its target is bound.
+ * <pre><code>
+ * {@literal @}BindView(R.id.advanced_options) Lazy&lt;LinearLayout&gt; advancedOptions;
+ * </code></pre>
+ * The result of the lookup is kept, so later calls return the same view.
+ */
+public interface Lazy<T> {
+  @UiThread T get();
+}
@@ -0,0 +1,82 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+import androidx.annotation.AnimRes;
+import androidx.annotation.AnyThread;
+import androidx.annotation.Nullable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Animations parsed once per theme and handed out as clones. A clone gets its own transformation
+ * state and, for sets, its own children, so it can be started independently of the others.
+ */
+final class AnimationCache {
+  private static final Map<Resources.Theme, ThemeAnimations> CACHE = new WeakHashMap<>();
+  private static final @Nullable Method CLONE = findClone();
+
+  @AnyThread
+  static Animation loadAnimation(Context context, @AnimRes int id) {
+    if (CLONE == null) {
+      return AnimationUtils.loadAnimation(context, id);
+    }
+
+    Resources res = context.getResources();
+    Resources.Theme theme = context.getTheme();
+    ThemeAnimations animations;
+    Animation template;
+    synchronized (CACHE) {
+      animations = CACHE.get(theme);
+      if (animations == null || !animations.configuration.equals(res.getConfiguration())) {
+        // A theme outlives a configuration change when the activity handles the change itself.
+        animations = new ThemeAnimations(res.getConfiguration());
+        CACHE.put(theme, animations);
+      }
+      template = animations.templates.get(id);
+    }
+    if (template == null) {
+      // Parsed without holding the lock. Racing binds of the same animation each parse it once.
+      template = AnimationUtils.loadAnimation(context, id);
+      synchronized (CACHE) {
+        animations.templates.put(id, template);
+      }
+    }
+    try {
+      // Cloning only reads the template so it needs no lock.
+      return (Animation) CLONE.invoke(template);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      return AnimationUtils.loadAnimation(context, id);
+    }
+  }
+
+  /** {@link Animation#clone()} is protected so it is called reflectively. */
+  private static @Nullable Method findClone() {
+    try {
+      Method clone = Animation.class.getDeclaredMethod("clone");
+      clone.setAccessible(true);
+      return clone;
+    } catch (NoSuchMethodException | SecurityException e) {
+      return null;
+    }
+  }
+
+  private static final class ThemeAnimations {
+    final Configuration configuration;
+    final Map<Integer, Animation> templates = new HashMap<>();
+
+    ThemeAnimations(Configuration configuration) {
+      this.configuration = new Configuration(configuration);
+    }
+  }
+
+  private AnimationCache() {
+    throw new AssertionError("No instances.");
+  }
+}
@@ -0,0 +1,25 @@
+package butterknife.internal;
+
+import android.view.View;
+import butterknife.Unbinder;
+
+/**
+ * Creates the generated binding for a target without going through reflection. Invoked on the
+ * main thread unless the target is being bound in the background.
+ */
+public interface BindingFactory {
+  Unbinder bind(Object target, View source);
+
+  /**
+   * Like {@link #bind} but the returned unbinder always clears the bound fields. Overridden by
+   * factories whose {@link #bind} returns a shared unbinder to avoid allocating.
+   */
+  default Unbinder bindWithUnbinder(Object target, View source) {
+    return bind(target, source);
+  }
+
+  /** The number of views looked up by ID in each {@link #bind}, including by superclasses. */
+  default int viewCount() {
+    return 0;
+  }
+}
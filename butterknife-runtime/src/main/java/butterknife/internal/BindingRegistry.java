@@ -0,0 +1,17 @@
+package butterknife.internal;
+
+import androidx.annotation.Nullable;
+import java.util.List;
+
+/**
+ * A generated lookup of every binding in a compilation unit. Enable generation by passing the
+ * fully-qualified name of the registry class to the annotation processor with the
+ * {@code butterknife.registry} option.
+ */
+public interface BindingRegistry {
+  /** The factory for bindings of {@code targetClass}, or null if it was not bound in this unit. */
+  @Nullable BindingFactory get(Class<?> targetClass);
+
+  /** The binary names of every type bound in this unit. */
+  List<String> targets();
+}
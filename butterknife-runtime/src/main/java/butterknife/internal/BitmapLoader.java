@@ -0,0 +1,149 @@
+package butterknife.internal;
+
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LruCache;
+import androidx.annotation.AnyThread;
+import androidx.annotation.DrawableRes;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Decodes the bitmaps of {@code @BindBitmap} fields which use decoding options. Decoded bitmaps are
+ * kept in a cache bounded to an eighth of the heap and shared by every target which asks for the
+ * same resource with the same options.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public final class BitmapLoader {
+  /** Receives a bitmap decoded by {@link #decodeAsync}. */
+  public interface Callback {
+    @UiThread
+    void onBitmapLoaded(@Nullable Bitmap bitmap);
+  }
+
+  private static final Handler MAIN = new Handler(Looper.getMainLooper());
+  private static final Executor DECODER = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "ButterKnife-bitmap");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private static final LruCache<Key, Bitmap> CACHE =
+      new LruCache<Key, Bitmap>((int) Math.min(Runtime.getRuntime().maxMemory() / 8,
+          Integer.MAX_VALUE)) {
+        @Override protected int sizeOf(Key key, Bitmap value) {
+          return value.getByteCount();
+        }
+      };
+
+  /** Decode on the calling thread, or return the cached bitmap. */
+  @AnyThread
+  public static @Nullable Bitmap decode(Resources res, @DrawableRes int id, int width, int height,
+      int sampleSize, Bitmap.Config config) {
+    return decode(res, new Key(res, id, width, height, sampleSize, config));
+  }
+
+  /**
+   * Decode on a background thread and deliver the bitmap to {@code callback} on the main thread.
+   * A cached bitmap is delivered before this method returns.
+   */
+  @UiThread
+  public static void decodeAsync(Resources res, @DrawableRes int id, int width, int height,
+      int sampleSize, Bitmap.Config config, Callback callback) {
+    Key key = new Key(res, id, width, height, sampleSize, config);
+    Bitmap bitmap = CACHE.get(key);
+    if (bitmap != null) {
+      callback.onBitmapLoaded(bitmap);
+      return;
+    }
+    DECODER.execute(() -> {
+      Bitmap decoded = decode(res, key);
+      MAIN.post(() -> callback.onBitmapLoaded(decoded));
+    });
+  }
+
+  private static @Nullable Bitmap decode(Resources res, Key key) {
+    Bitmap bitmap = CACHE.get(key);
+    if (bitmap != null) {
+      return bitmap;
+    }
+
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inPreferredConfig = key.config;
+    options.inSampleSize = key.sampleSize;
+    if (key.width > 0 || key.height > 0) {
+      // Read the dimensions first to pick the largest sample size which keeps the requested size.
+      options.inJustDecodeBounds = true;
+      BitmapFactory.decodeResource(res, key.id, options);
+      options.inJustDecodeBounds = false;
+      int sampleSize = key.sampleSize;
+      while (options.outWidth / (sampleSize * 2) >= key.width
+          && options.outHeight / (sampleSize * 2) >= key.height) {
+        sampleSize *= 2;
+      }
+      options.inSampleSize = sampleSize;
+    }
+
+    bitmap = BitmapFactory.decodeResource(res, key.id, options);
+    if (bitmap != null) {
+      CACHE.put(key, bitmap);
+    }
+    return bitmap;
+  }
+
+  private static final class Key {
+    final int id;
+    final Configuration configuration;
+    final int density;
+    final int width;
+    final int height;
+    final int sampleSize;
+    final Bitmap.Config config;
+
+    Key(Resources res, int id, int width, int height, int sampleSize, Bitmap.Config config) {
+      this.id = id;
+      // Qualifiers such as night mode, orientation or locale may select another bitmap.
+      this.configuration = new Configuration(res.getConfiguration());
+      // Resource bitmaps are scaled to the display density.
+      this.density = res.getDisplayMetrics().densityDpi;
+      this.width = width;
+      this.height = height;
+      this.sampleSize = sampleSize;
+      this.config = config;
+    }
+
+    @Override public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return id == other.id
+          && configuration.equals(other.configuration)
+          && density == other.density
+          && width == other.width
+          && height == other.height
+          && sampleSize == other.sampleSize
+          && config == other.config;
+    }
+
+    @Override public int hashCode() {
+      int result = id;
+      result = 31 * result + configuration.hashCode();
+      result = 31 * result + density;
+      result = 31 * result + width;
+      result = 31 * result + height;
+      result = 31 * result + sampleSize;
+      result = 31 * result + config.hashCode();
+      return result;
+    }
+  }
+
+  private BitmapLoader() {
+    throw new AssertionError("No instances.");
+  }
+}
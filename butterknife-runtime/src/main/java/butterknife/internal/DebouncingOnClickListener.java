@@ -2,20 +2,53 @@ package butterknife.internal;
 
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.view.View;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * A {@linkplain View.OnClickListener click listener} that debounces multiple clicks posted in the
  * same frame. A click on one button disables all buttons for that frame.
+ * <p>
+ * When created with an interval, clicks are instead debounced for that long after the last click
+ * in the same window. A click on one button then disables the other buttons of its window only.
  */
 public abstract class DebouncingOnClickListener implements View.OnClickListener {
   private static final Runnable ENABLE_AGAIN = () -> enabled = true;
   private static final Handler MAIN = new Handler(Looper.getMainLooper());
+  /**
+   * Uptime of the last click in each window, keyed by its root view. The value is updated in place
+   * so that only the first click in a window allocates.
+   */
+  private static final Map<View, LastClick> LAST_CLICKS = new WeakHashMap<>();
 
   static boolean enabled = true;
 
+  private final long intervalMillis;
+
+  public DebouncingOnClickListener() {
+    this(0);
+  }
+
+  public DebouncingOnClickListener(long intervalMillis) {
+    this.intervalMillis = intervalMillis;
+  }
+
   @Override public final void onClick(View v) {
-    if (enabled) {
+    if (intervalMillis > 0) {
+      long now = SystemClock.uptimeMillis();
+      View window = v.getRootView();
+      LastClick lastClick = LAST_CLICKS.get(window);
+      if (lastClick == null) {
+        lastClick = new LastClick();
+        LAST_CLICKS.put(window, lastClick);
+      } else if (now - lastClick.uptimeMillis < intervalMillis) {
+        return;
+      }
+      lastClick.uptimeMillis = now;
+      doClick(v);
+    } else if (enabled) {
       enabled = false;
 
       // Post to the main looper directly rather than going through the view.
@@ -28,4 +61,8 @@ public abstract class DebouncingOnClickListener implements View.OnClickListener
   }
 
   public abstract void doClick(View v);
+
+  private static final class LastClick {
+    long uptimeMillis;
+  }
 }
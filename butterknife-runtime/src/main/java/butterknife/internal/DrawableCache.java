@@ -0,0 +1,72 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.drawable.Drawable;
+import androidx.annotation.AnyThread;
+import androidx.annotation.ColorInt;
+import androidx.annotation.DrawableRes;
+import androidx.collection.LongSparseArray;
+import androidx.core.content.ContextCompat;
+import androidx.core.graphics.drawable.DrawableCompat;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tinted drawables keyed by theme, drawable ID and tint color. Each is inflated, mutated and
+ * tinted once and then handed out as new instances of its {@link Drawable.ConstantState}. Like
+ * drawables loaded from {@link Resources}, those instances share their state until
+ * {@link Drawable#mutate() mutated}.
+ */
+final class DrawableCache {
+  private static final Map<Resources.Theme, ThemeDrawables> CACHE = new WeakHashMap<>();
+
+  @AnyThread
+  static Drawable getTintedDrawable(Context context, @DrawableRes int id, @ColorInt int color) {
+    Resources res = context.getResources();
+    Resources.Theme theme = context.getTheme();
+    long key = ((long) id << 32) | (color & 0xffffffffL);
+    ThemeDrawables drawables;
+    Drawable.ConstantState state;
+    synchronized (CACHE) {
+      drawables = CACHE.get(theme);
+      if (drawables == null || !drawables.configuration.equals(res.getConfiguration())) {
+        // A theme outlives a configuration change when the activity handles the change itself.
+        drawables = new ThemeDrawables(res.getConfiguration());
+        CACHE.put(theme, drawables);
+      }
+      state = drawables.states.get(key);
+    }
+    if (state != null) {
+      return state.newDrawable(res);
+    }
+
+    // Inflated without holding the lock. Racing binds of the same drawable each inflate it once.
+    Drawable drawable = ContextCompat.getDrawable(context, id);
+    drawable = DrawableCompat.wrap(drawable.mutate());
+    DrawableCompat.setTint(drawable, color);
+    state = drawable.getConstantState();
+    if (state == null) {
+      return drawable;
+    }
+    synchronized (CACHE) {
+      drawables.states.put(key, state);
+    }
+    // The inflated drawable owns the cached state. Mutating it would change every later instance.
+    return state.newDrawable(res);
+  }
+
+  private static final class ThemeDrawables {
+    final Configuration configuration;
+    final LongSparseArray<Drawable.ConstantState> states = new LongSparseArray<>();
+
+    ThemeDrawables(Configuration configuration) {
+      this.configuration = new Configuration(configuration);
+    }
+  }
+
+  private DrawableCache() {
+    throw new AssertionError("No instances.");
+  }
+}
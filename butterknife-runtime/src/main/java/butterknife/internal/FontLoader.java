@@ -0,0 +1,88 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.AnyThread;
+import androidx.annotation.FontRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+import androidx.core.content.res.ResourcesCompat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Resolves the typefaces of {@code @BindFont} fields. Each font and style is resolved once per
+ * process and the typeface is shared by every target which binds it.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public final class FontLoader {
+  /** Receives a typeface resolved by {@link #getFontAsync}. */
+  public interface Callback {
+    @UiThread
+    void onFontLoaded(@Nullable Typeface typeface);
+  }
+
+  private static final Handler MAIN = new Handler(Looper.getMainLooper());
+  private static final Executor LOADER = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "ButterKnife-font");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private static final Map<Long, Typeface> CACHE = new ConcurrentHashMap<>();
+
+  /** Resolve on the calling thread, or return the cached typeface. */
+  @AnyThread
+  public static @Nullable Typeface getFont(Context context, @FontRes int id, int style) {
+    Typeface typeface = CACHE.get(key(id, style));
+    if (typeface != null) {
+      return typeface;
+    }
+    typeface = ResourcesCompat.getFont(context, id);
+    return typeface != null ? put(id, style, typeface) : null;
+  }
+
+  /**
+   * Resolve on a background thread through {@link ResourcesCompat.FontCallback} and deliver the
+   * typeface to {@code callback} on the main thread. Downloadable fonts are requested without
+   * blocking either thread. A cached typeface is delivered before this method returns.
+   */
+  @UiThread
+  public static void getFontAsync(Context context, @FontRes int id, int style,
+      Callback callback) {
+    Typeface typeface = CACHE.get(key(id, style));
+    if (typeface != null) {
+      callback.onFontLoaded(typeface);
+      return;
+    }
+    LOADER.execute(() -> ResourcesCompat.getFont(context, id, new ResourcesCompat.FontCallback() {
+      @Override public void onFontRetrieved(@NonNull Typeface typeface) {
+        callback.onFontLoaded(put(id, style, typeface));
+      }
+
+      @Override public void onFontRetrievalFailed(int reason) {
+        callback.onFontLoaded(null);
+      }
+    }, MAIN));
+  }
+
+  private static Typeface put(int id, int style, Typeface typeface) {
+    if (style != Typeface.NORMAL) {
+      typeface = Typeface.create(typeface, style);
+    }
+    CACHE.put(key(id, style), typeface);
+    return typeface;
+  }
+
+  private static long key(int id, int style) {
+    return ((long) id << 32) | style;
+  }
+
+  private FontLoader() {
+    throw new AssertionError("No instances.");
+  }
+}
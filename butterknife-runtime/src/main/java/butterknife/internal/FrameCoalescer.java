@@ -0,0 +1,39 @@
+package butterknife.internal;
+
+import android.view.Choreographer;
+import androidx.annotation.UiThread;
+
+/**
+ * Delivery of a coalesced listener callback. The generated listener records the arguments of each
+ * event in fields of the binding and calls {@link #schedule()}; {@link #deliver()} then invokes the
+ * target once at the next frame with whichever arguments were recorded last.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public abstract class FrameCoalescer implements Choreographer.FrameCallback {
+  private boolean scheduled;
+
+  @UiThread
+  public final void schedule() {
+    if (!scheduled) {
+      scheduled = true;
+      Choreographer.getInstance().postFrameCallback(this);
+    }
+  }
+
+  /** Drop a delivery which has been scheduled but has not happened yet. */
+  @UiThread
+  public final void cancel() {
+    if (scheduled) {
+      scheduled = false;
+      Choreographer.getInstance().removeFrameCallback(this);
+    }
+  }
+
+  @Override public final void doFrame(long frameTimeNanos) {
+    scheduled = false;
+    deliver();
+  }
+
+  @UiThread
+  public abstract void deliver();
+}
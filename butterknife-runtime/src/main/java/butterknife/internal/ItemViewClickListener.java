@@ -0,0 +1,99 @@
+package butterknife.internal;
+
+import android.graphics.Rect;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewParent;
+import androidx.annotation.IdRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * Clicks on views inside the items of a {@link RecyclerView}, detected by a single listener on the
+ * {@link RecyclerView} instead of one on each item. The item and the view under a tap are found
+ * when it happens so that nothing needs to be done as items are bound.
+ * <p>
+ * Only touch taps are detected. Clicks performed by accessibility services, the keyboard or a
+ * D-pad call {@link View#performClick()} on the view and never reach the {@link RecyclerView}.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public abstract class ItemViewClickListener extends RecyclerView.SimpleOnItemTouchListener {
+  private final int[] ids;
+  private final Rect bounds = new Rect();
+  private @Nullable RecyclerView parent;
+  private @Nullable GestureDetector detector;
+
+  public ItemViewClickListener(@IdRes int... ids) {
+    this.ids = ids;
+  }
+
+  @Override public boolean onInterceptTouchEvent(@NonNull RecyclerView parent,
+      @NonNull MotionEvent e) {
+    this.parent = parent;
+    if (detector == null) {
+      detector = new GestureDetector(parent.getContext(),
+          new GestureDetector.SimpleOnGestureListener() {
+            @Override public boolean onSingleTapUp(MotionEvent e) {
+              return dispatch(e);
+            }
+          });
+    }
+    detector.onTouchEvent(e);
+    // The gesture is only observed so that the items still scroll and show their pressed state.
+    return false;
+  }
+
+  boolean dispatch(MotionEvent e) {
+    RecyclerView parent = this.parent;
+    if (parent == null) {
+      return false;
+    }
+    View item = parent.findChildViewUnder(e.getX(), e.getY());
+    if (item == null) {
+      return false;
+    }
+    int position = parent.getChildAdapterPosition(item);
+    if (position == RecyclerView.NO_POSITION) {
+      return false; // Removed, or added since the last layout.
+    }
+
+    // The innermost view wins when one bound view contains another.
+    View clicked = null;
+    for (int id : ids) {
+      View view = item.findViewById(id);
+      if (view != null
+          && view.getVisibility() == View.VISIBLE
+          && view.isEnabled()
+          && isUnder(parent, view, e)
+          && (clicked == null || isDescendant(view, clicked))) {
+        clicked = view;
+      }
+    }
+    if (clicked == null) {
+      return false;
+    }
+    onItemViewClick(clicked, position);
+    return true;
+  }
+
+  private boolean isUnder(RecyclerView parent, View view, MotionEvent e) {
+    view.getDrawingRect(bounds);
+    parent.offsetDescendantRectToMyCoords(view, bounds);
+    return bounds.contains((int) e.getX(), (int) e.getY());
+  }
+
+  private static boolean isDescendant(View view, View ancestor) {
+    for (ViewParent parent = view.getParent(); parent != null; parent = parent.getParent()) {
+      if (parent == ancestor) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @UiThread
+  public abstract void onItemViewClick(View view, int position);
+}
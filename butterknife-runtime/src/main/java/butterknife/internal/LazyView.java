@@ -0,0 +1,52 @@
+package butterknife.internal;
+
+import android.view.View;
+import androidx.annotation.IdRes;
+import androidx.annotation.Nullable;
+import butterknife.Lazy;
+
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public final class LazyView<T> implements Lazy<T> {
+  /** A lazy view for one which was already looked up. */
+  public static <T> LazyView<T> of(@Nullable T view) {
+    return new LazyView<>(null, 0, null, null, false, view);
+  }
+
+  public static <T> LazyView<T> required(View source, @IdRes int id, String who, Class<T> cls) {
+    return new LazyView<>(source, id, who, cls, true, null);
+  }
+
+  public static <T> LazyView<T> optional(View source, @IdRes int id, String who, Class<T> cls) {
+    return new LazyView<>(source, id, who, cls, false, null);
+  }
+
+  /** Cleared once the view has been looked up. */
+  private @Nullable View source;
+  private final @IdRes int id;
+  private final @Nullable String who;
+  private final @Nullable Class<T> cls;
+  private final boolean required;
+  private @Nullable T view;
+
+  private LazyView(@Nullable View source, @IdRes int id, @Nullable String who,
+      @Nullable Class<T> cls, boolean required, @Nullable T view) {
+    this.source = source;
+    this.id = id;
+    this.who = who;
+    this.cls = cls;
+    this.required = required;
+    this.view = view;
+  }
+
+  @SuppressWarnings("ConstantConditions") // who and cls are set whenever source is.
+  @Override public T get() {
+    View source = this.source;
+    if (source != null) {
+      view = required
+          ? Utils.findRequiredViewAsType(source, id, who, cls)
+          : Utils.findOptionalViewAsType(source, id, who, cls);
+      this.source = null;
+    }
+    return view;
+  }
+}
@@ -0,0 +1,74 @@
+package butterknife.internal;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import androidx.annotation.AnyThread;
+import androidx.annotation.UiThread;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Listener attachment of bindings generated with {@code butterknife.deferListeners}. Bindings
+ * enqueued while a frame is being prepared are drained together once that frame has been drawn.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public final class ListenerQueue {
+  private static final Handler MAIN = new Handler(Looper.getMainLooper());
+  private static final Queue<Runnable> QUEUE = new ArrayDeque<>();
+  private static final Runnable DRAIN = ListenerQueue::drain;
+  // Frame callbacks run before traversal so the drain is posted to run after it.
+  private static final Choreographer.FrameCallback AFTER_FRAME =
+      frameTimeNanos -> MAIN.post(DRAIN);
+  // Bindings created off the main thread schedule the frame callback from the main thread since
+  // the Choreographer belongs to the looper of the thread which asks for it.
+  private static final Runnable SCHEDULE =
+      () -> Choreographer.getInstance().postFrameCallback(AFTER_FRAME);
+  private static boolean scheduled; // Guarded by QUEUE.
+
+  @AnyThread
+  public static void enqueue(Runnable attach) {
+    synchronized (QUEUE) {
+      QUEUE.add(attach);
+      if (scheduled) {
+        return;
+      }
+      scheduled = true;
+    }
+    if (Looper.myLooper() == Looper.getMainLooper()) {
+      SCHEDULE.run();
+    } else {
+      MAIN.post(SCHEDULE);
+    }
+  }
+
+  /** Run {@code attach} now if it is still waiting for a frame. */
+  @UiThread
+  public static void flush(Runnable attach) {
+    boolean removed;
+    synchronized (QUEUE) {
+      removed = QUEUE.remove(attach);
+    }
+    if (removed) {
+      attach.run();
+    }
+  }
+
+  private static void drain() {
+    while (true) {
+      Runnable attach;
+      synchronized (QUEUE) {
+        attach = QUEUE.poll();
+        if (attach == null) {
+          scheduled = false;
+          return;
+        }
+      }
+      attach.run();
+    }
+  }
+
+  private ListenerQueue() {
+    throw new AssertionError("No instances.");
+  }
+}
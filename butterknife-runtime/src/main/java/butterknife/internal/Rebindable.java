@@ -0,0 +1,14 @@
+package butterknife.internal;
+
+import android.view.View;
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+/**
+ * A binding which can be moved onto a new view hierarchy for the same target. Fields are
+ * reassigned from the new views and the existing listener instances are moved onto them.
+ */
+public interface Rebindable {
+  @UiThread
+  void rebind(@NonNull View source);
+}
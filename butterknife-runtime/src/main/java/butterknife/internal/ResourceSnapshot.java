@@ -0,0 +1,35 @@
+package butterknife.internal;
+
+import android.content.res.Configuration;
+import android.content.res.Resources;
+
+/**
+ * Resource values loaded by the first bind of a type and copied out by later binds. A snapshot is
+ * only valid for the configuration it was loaded with, so a configuration change causes the next
+ * bind to load a new snapshot.
+ * <p>
+ * Values are written before the snapshot is published and never afterwards, so a snapshot may be
+ * shared by binds on different threads.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public final class ResourceSnapshot {
+  private final Configuration configuration;
+  public final int[] ints;
+  public final float[] floats;
+  public final boolean[] booleans;
+  public final String[] strings;
+
+  public ResourceSnapshot(Resources res, int intCount, int floatCount, int booleanCount,
+      int stringCount) {
+    this.configuration = new Configuration(res.getConfiguration());
+    this.ints = new int[intCount];
+    this.floats = new float[floatCount];
+    this.booleans = new boolean[booleanCount];
+    this.strings = new String[stringCount];
+  }
+
+  /** True when this snapshot holds the values {@code res} would now load. */
+  public boolean isValidFor(Resources res) {
+    return configuration.equals(res.getConfiguration());
+  }
+}
@@ -5,24 +5,24 @@ import android.content.res.Resources;
 import android.graphics.drawable.Drawable;
 import android.util.TypedValue;
 import android.view.View;
+import android.view.animation.Animation;
+import androidx.annotation.AnimRes;
+import androidx.annotation.AnyThread;
 import androidx.annotation.AttrRes;
 import androidx.annotation.DimenRes;
 import androidx.annotation.DrawableRes;
 import androidx.annotation.IdRes;
-import androidx.annotation.UiThread;
 import androidx.core.content.ContextCompat;
-import androidx.core.graphics.drawable.DrawableCompat;
 import java.util.Arrays;
 import java.util.List;
 
 @SuppressWarnings("WeakerAccess") // Used by generated code.
 public final class Utils {
-  private static final TypedValue VALUE = new TypedValue();
-
-  @UiThread // Implicit synchronization for use of shared resource VALUE.
+  @AnyThread
   public static Drawable getTintedDrawable(Context context,
       @DrawableRes int id, @AttrRes int tintAttrId) {
-    boolean attributeFound = context.getTheme().resolveAttribute(tintAttrId, VALUE, true);
+    TypedValue value = new TypedValue();
+    boolean attributeFound = context.getTheme().resolveAttribute(tintAttrId, value, true);
     if (!attributeFound) {
       throw new Resources.NotFoundException("Required tint color attribute with name "
           + context.getResources().getResourceEntryName(tintAttrId)
@@ -31,16 +31,19 @@ public final class Utils {
           + " was not found.");
     }
 
-    Drawable drawable = ContextCompat.getDrawable(context, id);
-    drawable = DrawableCompat.wrap(drawable.mutate());
-    int color = ContextCompat.getColor(context, VALUE.resourceId);
-    DrawableCompat.setTint(drawable, color);
-    return drawable;
+    int color = ContextCompat.getColor(context, value.resourceId);
+    return DrawableCache.getTintedDrawable(context, id, color);
+  }
+
+  /** Load a clone of the animation parsed by the first bind in the theme of {@code context}. */
+  @AnyThread
+  public static Animation loadAnimation(Context context, @AnimRes int id) {
+    return AnimationCache.loadAnimation(context, id);
   }
 
-  @UiThread // Implicit synchronization for use of shared resource VALUE.
+  @AnyThread
   public static float getFloat(Context context, @DimenRes int id) {
-    TypedValue value = VALUE;
+    TypedValue value = new TypedValue();
     context.getResources().getValue(id, value, true);
     if (value.type == TypedValue.TYPE_FLOAT) {
       return value.getFloat();
@@ -80,8 +83,12 @@ public final class Utils {
     if (view != null) {
       return view;
     }
+    throw requiredViewNotFound(source, id, who);
+  }
+
+  static IllegalStateException requiredViewNotFound(View source, @IdRes int id, String who) {
     String name = getResourceEntryName(source, id);
-    throw new IllegalStateException("Required view '"
+    return new IllegalStateException("Required view '"
         + name
         + "' with ID "
         + id
@@ -97,6 +104,15 @@ public final class Utils {
     return castView(view, id, who, cls);
   }
 
+  /**
+   * The container with {@code id} in which the views of a binding are looked up, or the whole
+   * {@code source} when it has no such container.
+   */
+  public static View findRoot(View source, @IdRes int id) {
+    View root = source.findViewById(id);
+    return root != null ? root : source;
+  }
+
   public static <T> T castView(View view, @IdRes int id, String who, Class<T> cls) {
     try {
       return cls.cast(view);
@@ -0,0 +1,174 @@
+package butterknife.internal;
+
+import android.view.View;
+import android.view.ViewGroup;
+import androidx.annotation.IdRes;
+import androidx.annotation.Nullable;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Views found by ID in a single traversal of a hierarchy rather than one traversal per ID. IDs are
+ * kept in a primitive open-addressing table so that neither storing nor looking them up allocates.
+ * <p>
+ * Only the children of each {@link ViewGroup} are visited. Each ID resolves to the same view as
+ * {@link View#findViewById} on the source would return unless a view in the hierarchy searches
+ * views which are not its children, such as the header and footer views of a
+ * {@link android.widget.ListView} before they are laid out. Those views are not found.
+ * <p>
+ * Arrays and lists of views are sized to the views actually found, so building them needs no
+ * intermediate copy.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public final class ViewTable {
+  public static ViewTable find(View source, @IdRes int... ids) {
+    ViewTable table = new ViewTable(source, ids.length);
+    for (int id : ids) {
+      table.add(id);
+    }
+    if (table.remaining > 0) {
+      table.traverse(source);
+    }
+    return table;
+  }
+
+  private final View source;
+  private final int[] ids;
+  private final View[] views;
+  private final int mask;
+  private int remaining;
+
+  private ViewTable(View source, int size) {
+    this.source = source;
+    // Keep the load factor at or below one half so that probe sequences stay short.
+    int capacity = Math.max(2, Integer.highestOneBit(size * 2 - 1) << 1);
+    ids = new int[capacity];
+    Arrays.fill(ids, View.NO_ID);
+    views = new View[capacity];
+    mask = capacity - 1;
+  }
+
+  private void add(int id) {
+    if (id == View.NO_ID) {
+      return; // Never found, just like findViewById.
+    }
+    for (int index = hash(id) & mask; ; index = (index + 1) & mask) {
+      int existing = ids[index];
+      if (existing == id) {
+        return;
+      }
+      if (existing == View.NO_ID) {
+        ids[index] = id;
+        remaining++;
+        return;
+      }
+    }
+  }
+
+  private int indexOf(int id) {
+    if (id == View.NO_ID) {
+      return -1;
+    }
+    for (int index = hash(id) & mask; ; index = (index + 1) & mask) {
+      int existing = ids[index];
+      if (existing == id) {
+        return index;
+      }
+      if (existing == View.NO_ID) {
+        return -1;
+      }
+    }
+  }
+
+  /** Visit views in the same depth-first order as findViewById so the first match wins. */
+  private void traverse(View view) {
+    int index = indexOf(view.getId());
+    if (index != -1 && views[index] == null) {
+      views[index] = view;
+      remaining--;
+    }
+    if (view instanceof ViewGroup) {
+      ViewGroup group = (ViewGroup) view;
+      for (int i = 0, count = group.getChildCount(); i < count && remaining > 0; i++) {
+        traverse(group.getChildAt(i));
+      }
+    }
+  }
+
+  private static int hash(int id) {
+    // Fold in the high bits so IDs which differ only by resource type or package do not collide.
+    int h = id * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /** Returns the view with {@code id}, or null. The ID must have been passed to {@link #find}. */
+  public @Nullable View findViewById(@IdRes int id) {
+    int index = indexOf(id);
+    return index != -1 ? views[index] : null;
+  }
+
+  public <T> T findOptionalViewAsType(@IdRes int id, String who, Class<T> cls) {
+    return Utils.castView(findViewById(id), id, who, cls);
+  }
+
+  public View findRequiredView(@IdRes int id, String who) {
+    View view = findViewById(id);
+    if (view != null) {
+      return view;
+    }
+    throw Utils.requiredViewNotFound(source, id, who);
+  }
+
+  public <T> T findRequiredViewAsType(@IdRes int id, String who, Class<T> cls) {
+    return Utils.castView(findRequiredView(id, who), id, who, cls);
+  }
+
+  /** Views with {@code ids} which were found, without checking their type. */
+  public <T> T[] array(Class<? super T> cls, @IdRes int... ids) {
+    return toArray(cls, null, false, ids);
+  }
+
+  public <T> T[] optionalArray(Class<? super T> cls, String who, @IdRes int... ids) {
+    return toArray(cls, who, false, ids);
+  }
+
+  public <T> T[] requiredArray(Class<? super T> cls, String who, @IdRes int... ids) {
+    return toArray(cls, who, true, ids);
+  }
+
+  /** Views with {@code ids} which were found, without checking their type. */
+  public <T> List<T> list(Class<? super T> cls, @IdRes int... ids) {
+    return new ImmutableList<>(this.<T>toArray(cls, null, false, ids));
+  }
+
+  public <T> List<T> optionalList(Class<? super T> cls, String who, @IdRes int... ids) {
+    return new ImmutableList<>(this.<T>toArray(cls, who, false, ids));
+  }
+
+  public <T> List<T> requiredList(Class<? super T> cls, String who, @IdRes int... ids) {
+    return new ImmutableList<>(this.<T>toArray(cls, who, true, ids));
+  }
+
+  @SuppressWarnings("unchecked") // Array is of cls and each view is cast to it when checked.
+  private <T> T[] toArray(Class<? super T> cls, @Nullable String who, boolean required,
+      int[] ids) {
+    int count = 0;
+    for (int id : ids) {
+      if (findViewById(id) != null) {
+        count++;
+      } else if (required) {
+        throw Utils.requiredViewNotFound(source, id, who);
+      }
+    }
+    T[] result = (T[]) Array.newInstance(cls, count);
+    for (int i = 0, index = 0; index < count; i++) {
+      int id = ids[i];
+      View view = findViewById(id);
+      if (view != null) {
+        result[index++] = (T) (who != null ? Utils.castView(view, id, who, cls) : view);
+      }
+    }
+    return result;
+  }
+}
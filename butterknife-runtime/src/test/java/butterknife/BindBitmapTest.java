@@ -24,4 +24,154 @@ public final class BindBitmapTest {
         .withErrorContaining("@BindBitmap field type must be 'Bitmap'. (test.Test.one)")
         .in(source).onLine(4);
   }
+
+  @Test public void decodeOptions() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.graphics.Bitmap;\n"
+        + "import butterknife.BindBitmap;\n"
+        + "public class Test {\n"
+        + "  @BindBitmap(value = 1, width = 200, height = 100, config = Bitmap.Config.RGB_565) Bitmap one;\n"
+        + "  @BindBitmap(value = 2, sampleSize = 4) Bitmap two;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.graphics.Bitmap;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.BitmapLoader;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source.getContext());\n"
+        + "    }\n"
+        + "  };\n"
+        + "  /**\n"
+        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
+        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+        + "   */\n"
+        + "  @Deprecated\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this(target, source.getContext());\n"
+        + "  }\n"
+        + "  @UiThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    Resources res = context.getResources();\n"
+        + "    target.one = BitmapLoader.decode(res, 1, 200, 100, 1, Bitmap.Config.RGB_565);\n"
+        + "    target.two = BitmapLoader.decode(res, 2, 0, 0, 4, Bitmap.Config.ARGB_8888);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void async() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.graphics.Bitmap;\n"
+        + "import butterknife.BindBitmap;\n"
+        + "public class Test {\n"
+        + "  @BindBitmap(value = 1, async = true) Bitmap one;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.graphics.Bitmap;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.BitmapLoader;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source.getContext());\n"
+        + "    }\n"
+        + "  };\n"
+        + "  /**\n"
+        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
+        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+        + "   */\n"
+        + "  @Deprecated\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this(target, source.getContext());\n"
+        + "  }\n"
+        + "  @UiThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(final Test target, Context context) {\n"
+        + "    Resources res = context.getResources();\n"
+        + "    BitmapLoader.decodeAsync(res, 1, 0, 0, 1, Bitmap.Config.ARGB_8888, new BitmapLoader.Callback() {\n"
+        + "      @Override\n"
+        + "      public void onBitmapLoaded(Bitmap bitmap) {\n"
+        + "        target.one = bitmap;\n"
+        + "      }\n"
+        + "    });\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void sampleSizeMustBePositive() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.graphics.Bitmap;\n"
+        + "import butterknife.BindBitmap;\n"
+        + "public class Test {\n"
+        + "  @BindBitmap(value = 1, sampleSize = 0) Bitmap one;\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .processedWith(new ButterKnifeProcessor())
+        .failsToCompile()
+        .withErrorContaining("@BindBitmap sampleSize must be at least 1. (test.Test.one)")
+        .in(source).onLine(5);
+  }
 }
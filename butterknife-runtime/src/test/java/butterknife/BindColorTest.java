@@ -26,10 +26,18 @@ public final class BindColorTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import java.lang.Deprecated;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source.getContext());\n"
+        + "    }\n"
+        + "  };\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -77,10 +85,18 @@ public final class BindColorTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import java.lang.Deprecated;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source.getContext());\n"
+        + "    }\n"
+        + "  };\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -29,9 +29,21 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -74,9 +86,21 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -152,10 +176,22 @@ public class BindViewTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public final class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -204,10 +240,22 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Base_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Base_ViewBinding((Base) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Base target;\n"
         + "  @UiThread\n"
         + "  public Base_ViewBinding(Base target, View source) {\n"
@@ -229,10 +277,23 @@ public class BindViewTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public final class Test_ViewBinding extends Base_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1 + Base_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -275,10 +336,22 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -321,10 +394,22 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -368,10 +453,22 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -417,11 +514,23 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -478,11 +587,23 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -555,9 +676,21 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -583,6 +716,140 @@ public class BindViewTest {
         .generatesSources(bindingSource);
   }
 
+  @Test public void lazy() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.Lazy;\n"
+        + "public class Test {\n"
+        + "  @interface Nullable {}\n"
+        + "  @BindView(1) Lazy<TextView> title;\n"
+        + "  @Nullable @BindView(2) Lazy<View> details;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.LazyView;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    target.title = LazyView.required(source, 1, \"field 'title'\", TextView.class);\n"
+        + "    target.details = LazyView.optional(source, 2, \"field 'details'\", View.class);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.title = null;\n"
+        + "    target.details = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void lazySharingIdWithListener() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.Lazy;\n"
+        + "import butterknife.OnClick;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) Lazy<View> button;\n"
+        + "  @OnClick(1) void onClick() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.LazyView;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"field 'button' and method 'onClick'\");\n"
+        + "    target.button = LazyView.of(view);\n"
+        + "    view1 = view;\n"
+        + "    view.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        target.onClick();\n"
+        + "      }\n"
+        + "    });\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.button = null;\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1 = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
   @Test public void superclass() {
     JavaFileObject source1 = JavaFileObjects.forSourceString("test.Test", ""
         + "package test;\n"
@@ -614,10 +881,22 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -639,10 +918,23 @@ public class BindViewTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class TestOne_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new TestOne_ViewBinding((TestOne) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1 + Test_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  private TestOne target;\n"
         + "  @UiThread\n"
         + "  public TestOne_ViewBinding(TestOne target, View source) {\n"
@@ -700,10 +992,22 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -725,10 +1029,23 @@ public class BindViewTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class TestOne_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new TestOne_ViewBinding((TestOne) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1 + Test_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  private TestOne target;\n"
         + "  @UiThread\n"
         + "  public TestOne_ViewBinding(TestOne target, View source) {\n"
@@ -830,6 +1147,23 @@ public class BindViewTest {
         .in(source).onLine(4);
   }
 
+  @Test public void failsIfLazyHasNoGenericComponent() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.Lazy;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) Lazy thing;\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .processedWith(new ButterKnifeProcessor())
+        .failsToCompile()
+        .withErrorContaining("@BindView Lazy must have a generic component. (test.Test.thing)")
+        .in(source).onLine(5);
+  }
+
   @Test public void failsIfInInterface() {
     JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
         + "package test;\n"
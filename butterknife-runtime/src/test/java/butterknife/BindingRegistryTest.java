@@ -0,0 +1,180 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.common.collect.ImmutableList;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+
+public class BindingRegistryTest {
+  @Test public void registryListsEveryBinding() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) View thing;\n"
+        + "  static class Inner {\n"
+        + "    @BindView(1) View thing;\n"
+        + "  }\n"
+        + "}"
+    );
+    JavaFileObject otherSource = JavaFileObjects.forSourceString("test.other.Other", ""
+        + "package test.other;\n"
+        + "import butterknife.BindBool;\n"
+        + "class Other {\n"
+        + "  @BindBool(1) boolean one;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    target.thing = source.findViewById(1);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.thing = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    JavaFileObject otherBindingSource =
+        JavaFileObjects.forSourceString("test/other/Other_ViewBinding", ""
+            + "// Generated code from Butter Knife. Do not modify!\n"
+            + "package test.other;\n"
+            + "import android.content.Context;\n"
+            + "import android.content.res.Resources;\n"
+            + "import android.view.View;\n"
+            + "import androidx.annotation.CallSuper;\n"
+            + "import androidx.annotation.UiThread;\n"
+            + "import butterknife.Unbinder;\n"
+            + "import butterknife.internal.BindingFactory;\n"
+            + "import java.lang.Deprecated;\n"
+            + "import java.lang.Object;\n"
+            + "import java.lang.Override;\n"
+            + "import java.lang.SuppressWarnings;\n"
+            + "public class Other_ViewBinding implements Unbinder {\n"
+            + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+            + "    @Override\n"
+            + "    public Unbinder bind(Object target, View source) {\n"
+            + "      return new Other_ViewBinding((Other) target, source.getContext());\n"
+            + "    }\n"
+            + "  };\n"
+            + "  /**\n"
+            + "   * @deprecated Use {@link #Other_ViewBinding(Other, Context)} for direct creation.\n"
+            + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+            + "   */\n"
+            + "  @Deprecated\n"
+            + "  @UiThread\n"
+            + "  public Other_ViewBinding(Other target, View source) {\n"
+            + "    this(target, source.getContext());\n"
+            + "  }\n"
+            + "  @UiThread\n"
+            + "  @SuppressWarnings(\"ResourceType\")\n"
+            + "  public Other_ViewBinding(Other target, Context context) {\n"
+            + "    Resources res = context.getResources();\n"
+            + "    target.one = res.getBoolean(1);\n"
+            + "  }\n"
+            + "  @Override\n"
+            + "  @CallSuper\n"
+            + "  public void unbind() {\n"
+            + "  }\n"
+            + "}"
+        );
+
+    JavaFileObject registrySource = JavaFileObjects.forSourceString("test/TestRegistry", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import androidx.annotation.Nullable;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.BindingRegistry;\n"
+        + "import java.lang.Class;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.String;\n"
+        + "import java.util.Arrays;\n"
+        + "import java.util.List;\n"
+        + "import test.other.Other_ViewBinding;\n"
+        + "public final class TestRegistry implements BindingRegistry {\n"
+        + "  public static final BindingRegistry INSTANCE = new TestRegistry();\n"
+        + "  private TestRegistry() {\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @Nullable\n"
+        + "  public BindingFactory get(Class<?> targetClass) {\n"
+        + "    switch (targetClass.getName()) {\n"
+        + "      case \"test.Test\":\n"
+        + "        return Test_ViewBinding.FACTORY;\n"
+        + "      case \"test.Test$Inner\":\n"
+        + "        return Test$Inner_ViewBinding.FACTORY;\n"
+        + "      case \"test.other.Other\":\n"
+        + "        return Other_ViewBinding.FACTORY;\n"
+        + "      default:\n"
+        + "        return null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public List<String> targets() {\n"
+        + "    return Arrays.asList(\"test.Test\", \"test.Test$Inner\", \"test.other.Other\");\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSources()).that(ImmutableList.of(source, otherSource))
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.debuggable=false",
+            "-Abutterknife.registry=test.TestRegistry")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource, otherBindingSource, registrySource);
+  }
+
+  @Test public void invalidRegistryName() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) View thing;\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Abutterknife.registry=test.")
+        .processedWith(new ButterKnifeProcessor())
+        .failsToCompile()
+        .withErrorContaining(
+            "Unable to parse supplied registry option 'test.'. Expected a fully-qualified class name.");
+  }
+}
@@ -61,10 +61,23 @@ public class ClasspathParentBindTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class SubClass_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new SubClass_ViewBinding((SubClass) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1 + Test_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  private SubClass target;\n"
         + "  @UiThread\n"
         + "  public SubClass_ViewBinding(SubClass target, View source) {\n"
@@ -137,10 +150,23 @@ public class ClasspathParentBindTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class ToProcess_ViewBinding extends SubClassTest_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new ToProcess_ViewBinding((ToProcess) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1 + SubClassTest_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  private ToProcess target;\n"
         + "  @UiThread\n"
         + "  public ToProcess_ViewBinding(ToProcess target, View source) {\n"
@@ -199,10 +225,24 @@ public class ClasspathParentBindTest {
         + "import android.content.Context;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.Deprecated;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class SubClass_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new SubClass_ViewBinding((SubClass) target, source.getContext());\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return Test_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #SubClass_ViewBinding(SubClass, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -0,0 +1,210 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+
+public class DeferListenersTest {
+  @Test public void listenersAttachedFromQueue() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.OnClick;\n"
+        + "import butterknife.OnTextChanged;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) TextView title;\n"
+        + "  @OnClick(1) void onClick() {}\n"
+        + "  @OnTextChanged(2) void onTextChanged() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.text.Editable;\n"
+        + "import android.text.TextWatcher;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.ListenerQueue;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.CharSequence;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.Runnable;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 2;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private final Runnable pendingListeners;\n"
+        + "  private View view1;\n"
+        + "  private View view2;\n"
+        + "  private TextWatcher view2TextWatcher;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"field 'title' and method 'onClick'\");\n"
+        + "    target.title = Utils.castView(view, 1, \"field 'title'\", TextView.class);\n"
+        + "    view1 = view;\n"
+        + "    view = Utils.findRequiredView(source, 2, \"method 'onTextChanged'\");\n"
+        + "    view2 = view;\n"
+        + "    pendingListeners = new Runnable() {\n"
+        + "      @Override\n"
+        + "      public void run() {\n"
+        + "        attachListeners(target);\n"
+        + "      }\n"
+        + "    };\n"
+        + "    ListenerQueue.enqueue(pendingListeners);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.title = null;\n"
+        + "    ListenerQueue.flush(pendingListeners);\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1 = null;\n"
+        + "    ((TextView) view2).removeTextChangedListener(view2TextWatcher);\n"
+        + "    view2TextWatcher = null;\n"
+        + "    view2 = null;\n"
+        + "  }\n"
+        + "  @UiThread\n"
+        + "  private void attachListeners(final Test target) {\n"
+        + "    view1.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        target.onClick();\n"
+        + "      }\n"
+        + "    });\n"
+        + "    view2TextWatcher = new TextWatcher() {\n"
+        + "      @Override\n"
+        + "      public void onTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "        target.onTextChanged();\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void beforeTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void afterTextChanged(Editable p0) {\n"
+        + "      }\n"
+        + "    };\n"
+        + "    ((TextView) view2).addTextChangedListener(view2TextWatcher);\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.deferListeners=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void optionalViewCheckedWhenAttaching() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.OnClick;\n"
+        + "import butterknife.Optional;\n"
+        + "public class Test {\n"
+        + "  @Optional @OnClick(1) void onClick() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.ListenerQueue;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.Runnable;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private final Runnable pendingListeners;\n"
+        + "  private View view1;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    view = source.findViewById(1);\n"
+        + "    if (view != null) {\n"
+        + "      view1 = view;\n"
+        + "    }\n"
+        + "    pendingListeners = new Runnable() {\n"
+        + "      @Override\n"
+        + "      public void run() {\n"
+        + "        attachListeners(target);\n"
+        + "      }\n"
+        + "    };\n"
+        + "    ListenerQueue.enqueue(pendingListeners);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    target = null;\n"
+        + "    ListenerQueue.flush(pendingListeners);\n"
+        + "    if (view1 != null) {\n"
+        + "      view1.setOnClickListener(null);\n"
+        + "      view1 = null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "  @UiThread\n"
+        + "  private void attachListeners(final Test target) {\n"
+        + "    if (view1 != null) {\n"
+        + "      view1.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "        @Override\n"
+        + "        public void doClick(View p0) {\n"
+        + "          target.onClick();\n"
+        + "        }\n"
+        + "      });\n"
+        + "    }\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.deferListeners=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+}
@@ -0,0 +1,115 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static butterknife.TestStubs.ANDROIDX_RECYCLER_VIEW;
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static java.util.Arrays.asList;
+
+public class OnItemViewClickTest {
+  @Test public void itemViewClick() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.ImageView;\n"
+        + "import butterknife.OnItemViewClick;\n"
+        + "public class Test {\n"
+        + "  @OnItemViewClick(container = 1, value = {2, 3}) void like(int position) {}\n"
+        + "  @OnItemViewClick(container = 1, value = 4) void share(ImageView view, int position) {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.ImageView;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import androidx.recyclerview.widget.RecyclerView;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.ItemViewClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private ItemViewClickListener view1ItemViewClickListener;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"method 'like' and method 'share'\");\n"
+        + "    view1 = view;\n"
+        + "    view1ItemViewClickListener = new ItemViewClickListener(2, 3, 4) {\n"
+        + "      @Override\n"
+        + "      public void onItemViewClick(View p0, int p1) {\n"
+        + "        switch (p0.getId()) {\n"
+        + "          case 2:\n"
+        + "          case 3:\n"
+        + "            target.like(p1);\n"
+        + "            break;\n"
+        + "          case 4:\n"
+        + "            target.share(Utils.castParam(p0, \"onItemViewClick\", 0, \"share\", 0, ImageView.class), p1);\n"
+        + "            break;\n"
+        + "        }\n"
+        + "      }\n"
+        + "    };\n"
+        + "    ((RecyclerView) view).addOnItemTouchListener(view1ItemViewClickListener);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    target = null;\n"
+        + "    ((RecyclerView) view1).removeOnItemTouchListener(view1ItemViewClickListener);\n"
+        + "    view1ItemViewClickListener = null;\n"
+        + "    view1 = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSources())
+        .that(asList(source, ANDROIDX_RECYCLER_VIEW))
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void failsWithoutItemViewIds() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.OnItemViewClick;\n"
+        + "public class Test {\n"
+        + "  @OnItemViewClick(container = 1, value = {})\n"
+        + "  void doStuff() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .processedWith(new ButterKnifeProcessor())
+        .failsToCompile()
+        .withErrorContaining("@OnItemViewClick must specify at least one ID. (test.Test.doStuff)")
+        .in(source).onLine(5);
+  }
+}
@@ -27,10 +27,22 @@ public class OnPageChangeTest {
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.viewpager.widget.ViewPager;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  private ViewPager.OnPageChangeListener view1OnPageChangeListener;\n"
@@ -74,4 +86,99 @@ public class OnPageChangeTest {
         .and()
         .generatesSources(bindingSource);
   }
+
+  @Test public void pageScrolledCoalesced() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.Coalesce;\n"
+        + "import butterknife.OnPageChange;\n"
+        + "import static butterknife.OnPageChange.Callback.PAGE_SCROLLED;\n"
+        + "public class Test {\n"
+        + "  @OnPageChange(value = 1, callback = PAGE_SCROLLED, coalesce = Coalesce.FRAME)\n"
+        + "  void onScrolled(int position, float offset) {}\n"
+        + "  @OnPageChange(value = 1, callback = PAGE_SCROLLED) void onEveryScroll() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import androidx.viewpager.widget.ViewPager;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.FrameCoalescer;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private ViewPager.OnPageChangeListener view1OnPageChangeListener;\n"
+        + "  private FrameCoalescer view1OnPageScrolled;\n"
+        + "  private int view1OnPageScrolledP0;\n"
+        + "  private float view1OnPageScrolledP1;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"method 'onScrolled' and method 'onEveryScroll'\");\n"
+        + "    view1 = view;\n"
+        + "    view1OnPageScrolled = new FrameCoalescer() {\n"
+        + "      @Override\n"
+        + "      public void deliver() {\n"
+        + "        target.onScrolled(view1OnPageScrolledP0, view1OnPageScrolledP1);\n"
+        + "      }\n"
+        + "    };\n"
+        + "    view1OnPageChangeListener = new ViewPager.OnPageChangeListener() {\n"
+        + "      @Override\n"
+        + "      public void onPageSelected(int p0) {\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void onPageScrolled(int p0, float p1, int p2) {\n"
+        + "        target.onEveryScroll();\n"
+        + "        view1OnPageScrolledP0 = p0;\n"
+        + "        view1OnPageScrolledP1 = p1;\n"
+        + "        view1OnPageScrolled.schedule();\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void onPageScrollStateChanged(int p0) {\n"
+        + "      }\n"
+        + "    };\n"
+        + "    ((ViewPager) view).addOnPageChangeListener(view1OnPageChangeListener);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    target = null;\n"
+        + "    ((ViewPager) view1).removeOnPageChangeListener(view1OnPageChangeListener);\n"
+        + "    view1OnPageChangeListener = null;\n"
+        + "    view1OnPageScrolled.cancel();\n"
+        + "    view1OnPageScrolled = null;\n"
+        + "    view1 = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSources())
+        .that(asList(source, ANDROIDX_VIEW_PAGER))
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
 }
@@ -27,11 +27,23 @@ public class OnTextChangedTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.CharSequence;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  private TextWatcher view1TextWatcher;\n"
@@ -93,11 +105,23 @@ public class OnTextChangedTest {
             + "import androidx.annotation.CallSuper;\n"
             + "import androidx.annotation.UiThread;\n"
             + "import butterknife.Unbinder;\n"
+            + "import butterknife.internal.BindingFactory;\n"
             + "import butterknife.internal.Utils;\n"
             + "import java.lang.CharSequence;\n"
             + "import java.lang.IllegalStateException;\n"
+            + "import java.lang.Object;\n"
             + "import java.lang.Override;\n"
             + "public class Test_ViewBinding implements Unbinder {\n"
+            + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+            + "    @Override\n"
+            + "    public Unbinder bind(Object target, View source) {\n"
+            + "      return new Test_ViewBinding((Test) target, source);\n"
+            + "    }\n"
+            + "    @Override\n"
+            + "    public int viewCount() {\n"
+            + "      return 1;\n"
+            + "    }\n"
+            + "  };\n"
             + "  private Test target;\n"
             + "  private View view1;\n"
             + "  private TextWatcher view1TextWatcher;\n"
@@ -159,11 +183,23 @@ public class OnTextChangedTest {
             + "import androidx.annotation.CallSuper;\n"
             + "import androidx.annotation.UiThread;\n"
             + "import butterknife.Unbinder;\n"
+            + "import butterknife.internal.BindingFactory;\n"
             + "import butterknife.internal.Utils;\n"
             + "import java.lang.CharSequence;\n"
             + "import java.lang.IllegalStateException;\n"
+            + "import java.lang.Object;\n"
             + "import java.lang.Override;\n"
             + "public class Test_ViewBinding implements Unbinder {\n"
+            + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+            + "    @Override\n"
+            + "    public Unbinder bind(Object target, View source) {\n"
+            + "      return new Test_ViewBinding((Test) target, source);\n"
+            + "    }\n"
+            + "    @Override\n"
+            + "    public int viewCount() {\n"
+            + "      return 1;\n"
+            + "    }\n"
+            + "  };\n"
             + "  private Test target;\n"
             + "  private View view1;\n"
             + "  private TextWatcher view1TextWatcher;\n"
@@ -207,6 +243,103 @@ public class OnTextChangedTest {
             .generatesSources(bindingSource);
   }
 
+  @Test public void textChangedCoalesced() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.Coalesce;\n"
+        + "import butterknife.OnTextChanged;\n"
+        + "import butterknife.OnPageChange;\n"
+        + "public class Test {\n"
+        + "  @OnTextChanged(value = 1, coalesce = Coalesce.FRAME) void doStuff(CharSequence text, int count) {}\n"
+        + "  @OnTextChanged(value = 1, callback = OnTextChanged.Callback.AFTER_TEXT_CHANGED) void after() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.text.Editable;\n"
+        + "import android.text.TextWatcher;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.FrameCoalescer;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.CharSequence;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private TextWatcher view1TextWatcher;\n"
+        + "  private FrameCoalescer view1OnTextChanged;\n"
+        + "  private CharSequence view1OnTextChangedP0;\n"
+        + "  private int view1OnTextChangedP1;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"method 'doStuff' and method 'after'\");\n"
+        + "    view1 = view;\n"
+        + "    view1OnTextChanged = new FrameCoalescer() {\n"
+        + "      @Override\n"
+        + "      public void deliver() {\n"
+        + "        target.doStuff(view1OnTextChangedP0, view1OnTextChangedP1);\n"
+        + "      }\n"
+        + "    };\n"
+        + "    view1TextWatcher = new TextWatcher() {\n"
+        + "      @Override\n"
+        + "      public void onTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "        view1OnTextChangedP0 = p0;\n"
+        + "        view1OnTextChangedP1 = p1;\n"
+        + "        view1OnTextChanged.schedule();\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void beforeTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void afterTextChanged(Editable p0) {\n"
+        + "        target.after();\n"
+        + "      }\n"
+        + "    };\n"
+        + "    ((TextView) view).addTextChangedListener(view1TextWatcher);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    target = null;\n"
+        + "    ((TextView) view1).removeTextChangedListener(view1TextWatcher);\n"
+        + "    view1TextWatcher = null;\n"
+        + "    view1OnTextChanged.cancel();\n"
+        + "    view1OnTextChanged = null;\n"
+        + "    view1 = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource())
+        .that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
   @Test public void textChangedWithWrongParameter() {
     JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
             + "package test;\n"
@@ -0,0 +1,316 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+
+public class RebindTest {
+  @Test public void listenersKeptForRebind() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.OnClick;\n"
+        + "import butterknife.OnTextChanged;\n"
+        + "import butterknife.Optional;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) TextView title;\n"
+        + "  @OnTextChanged(1) void onTitleChanged(CharSequence text) {}\n"
+        + "  @OnClick(2) void doStuff() {}\n"
+        + "  @Optional @OnClick(3) void doOptionalStuff() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.text.Editable;\n"
+        + "import android.text.TextWatcher;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Rebindable;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.CharSequence;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder, Rebindable {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 3;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private TextWatcher view1TextWatcher;\n"
+        + "  private View view2;\n"
+        + "  private DebouncingOnClickListener view2DebouncingOnClickListener;\n"
+        + "  private View view3;\n"
+        + "  private DebouncingOnClickListener view3DebouncingOnClickListener;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    view1TextWatcher = new TextWatcher() {\n"
+        + "      @Override\n"
+        + "      public void onTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "        target.onTitleChanged(p0);\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void beforeTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void afterTextChanged(Editable p0) {\n"
+        + "      }\n"
+        + "    };\n"
+        + "    view2DebouncingOnClickListener = new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        target.doStuff();\n"
+        + "      }\n"
+        + "    };\n"
+        + "    view3DebouncingOnClickListener = new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        target.doOptionalStuff();\n"
+        + "      }\n"
+        + "    };\n"
+        + "    bindViews(target, source);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.title = null;\n"
+        + "    ((TextView) view1).removeTextChangedListener(view1TextWatcher);\n"
+        + "    view1TextWatcher = null;\n"
+        + "    view1 = null;\n"
+        + "    view2.setOnClickListener(null);\n"
+        + "    view2DebouncingOnClickListener = null;\n"
+        + "    view2 = null;\n"
+        + "    if (view3 != null) {\n"
+        + "      view3.setOnClickListener(null);\n"
+        + "      view3DebouncingOnClickListener = null;\n"
+        + "      view3 = null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  @UiThread\n"
+        + "  public void rebind(View source) {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    ((TextView) view1).removeTextChangedListener(view1TextWatcher);\n"
+        + "    view1 = null;\n"
+        + "    view2.setOnClickListener(null);\n"
+        + "    view2 = null;\n"
+        + "    if (view3 != null) {\n"
+        + "      view3.setOnClickListener(null);\n"
+        + "      view3 = null;\n"
+        + "    }\n"
+        + "    bindViews(target, source);\n"
+        + "  }\n"
+        + "  private void bindViews(Test target, View source) {\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"field 'title' and method 'onTitleChanged'\");\n"
+        + "    target.title = Utils.castView(view, 1, \"field 'title'\", TextView.class);\n"
+        + "    view1 = view;\n"
+        + "    ((TextView) view).addTextChangedListener(view1TextWatcher);\n"
+        + "    view = Utils.findRequiredView(source, 2, \"method 'doStuff'\");\n"
+        + "    view2 = view;\n"
+        + "    view.setOnClickListener(view2DebouncingOnClickListener);\n"
+        + "    view = source.findViewById(3);\n"
+        + "    if (view != null) {\n"
+        + "      view3 = view;\n"
+        + "      view.setOnClickListener(view3DebouncingOnClickListener);\n"
+        + "    }\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.rebind=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void superclassRebindsFirst() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) View one;\n"
+        + "}\n"
+        + "class TestOne extends Test {\n"
+        + "  @BindView(4) View four;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.Rebindable;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder, Rebindable {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    bindViews(target, source);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.one = null;\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  @UiThread\n"
+        + "  public void rebind(View source) {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    bindViews(target, source);\n"
+        + "  }\n"
+        + "  private void bindViews(Test target, View source) {\n"
+        + "    target.one = Utils.findRequiredView(source, 1, \"field 'one'\");\n"
+        + "  }\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSourceOne = JavaFileObjects.forSourceString("test/TestOne_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class TestOne_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new TestOne_ViewBinding((TestOne) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1 + Test_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private TestOne target;\n"
+        + "  @UiThread\n"
+        + "  public TestOne_ViewBinding(TestOne target, View source) {\n"
+        + "    super(target, source);\n"
+        + "    this.target = target;\n"
+        + "    bindViews(target, source);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public void unbind() {\n"
+        + "    TestOne target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.four = null;\n"
+        + "    super.unbind();\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @UiThread\n"
+        + "  public void rebind(View source) {\n"
+        + "    super.rebind(source);\n"
+        + "    TestOne target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    bindViews(target, source);\n"
+        + "  }\n"
+        + "  private void bindViews(TestOne target, View source) {\n"
+        + "    target.four = Utils.findRequiredView(source, 4, \"field 'four'\");\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.rebind=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutError()
+        .and()
+        .generatesSources(bindingSource, bindingSourceOne);
+  }
+
+  @Test public void staticBindIgnoredWithRebind() {
+    assertIgnoredWithRebind("butterknife.staticBind");
+  }
+
+  @Test public void deferListenersIgnoredWithRebind() {
+    assertIgnoredWithRebind("butterknife.deferListeners");
+  }
+
+  @Test public void sharedListenersIgnoredWithRebind() {
+    assertIgnoredWithRebind("butterknife.sharedListeners");
+  }
+
+  @Test public void listenerOptionsWithoutRebind() {
+    assertAbout(javaSource()).that(listenerSource())
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.staticBind=true",
+            "-Abutterknife.deferListeners=true", "-Abutterknife.sharedListeners=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings();
+  }
+
+  private static void assertIgnoredWithRebind(String option) {
+    assertAbout(javaSource()).that(listenerSource())
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.rebind=true",
+            "-A" + option + "=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutError()
+        .withWarningContaining("Ignoring option '"
+            + option
+            + "' since it is not supported together with 'butterknife.rebind'.");
+  }
+
+  private static JavaFileObject listenerSource() {
+    return JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.OnClick;\n"
+        + "public class Test {\n"
+        + "  @OnClick({1, 2}) void doStuff() {}\n"
+        + "}"
+    );
+  }
+}
@@ -0,0 +1,181 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+
+public class ResourceCacheTest {
+  @Test public void valuesSharedThroughSnapshot() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindBool;\n"
+        + "import butterknife.BindColor;\n"
+        + "import butterknife.BindDimen;\n"
+        + "import butterknife.BindString;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) View view;\n"
+        + "  @BindString(2) String title;\n"
+        + "  @BindColor(3) int color;\n"
+        + "  @BindDimen(4) float padding;\n"
+        + "  @BindBool(5) boolean tablet;\n"
+        + "  @BindString(6) String subtitle;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.ResourceSnapshot;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private static volatile ResourceSnapshot resourceSnapshot;\n"
+        + "  private Test target;\n"
+        + "  @UiThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    target.view = Utils.findRequiredView(source, 1, \"field 'view'\");\n"
+        + "    Context context = source.getContext();\n"
+        + "    Resources res = context.getResources();\n"
+        + "    ResourceSnapshot snapshot = resourceSnapshot;\n"
+        + "    if (snapshot == null || !snapshot.isValidFor(res)) {\n"
+        + "      snapshot = new ResourceSnapshot(res, 0, 1, 1, 2);\n"
+        + "      snapshot.booleans[0] = res.getBoolean(5);\n"
+        + "      snapshot.floats[0] = res.getDimension(4);\n"
+        + "      snapshot.strings[0] = res.getString(2);\n"
+        + "      snapshot.strings[1] = res.getString(6);\n"
+        + "      resourceSnapshot = snapshot;\n"
+        + "    }\n"
+        + "    target.tablet = snapshot.booleans[0];\n"
+        + "    target.color = ContextCompat.getColor(context, 3);\n"
+        + "    target.padding = snapshot.floats[0];\n"
+        + "    target.title = snapshot.strings[0];\n"
+        + "    target.subtitle = snapshot.strings[1];\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.view = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.resourceCache=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void staticBindSharesSnapshot() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.BindColor;\n"
+        + "import butterknife.BindDimen;\n"
+        + "import butterknife.BindInt;\n"
+        + "public class Test {\n"
+        + "  @BindDimen(1) int padding;\n"
+        + "  @BindColor(2) int color;\n"
+        + "  @BindInt(3) int columns;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.ResourceSnapshot;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      Test_ViewBinding.bind((Test) target, source.getContext());\n"
+        + "      return Unbinder.EMPTY;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private static volatile ResourceSnapshot resourceSnapshot;\n"
+        + "  /**\n"
+        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
+        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+        + "   */\n"
+        + "  @Deprecated\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this(target, source.getContext());\n"
+        + "  }\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    bind(target, context);\n"
+        + "  }\n"
+        + "  @UiThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public static void bind(Test target, Context context) {\n"
+        + "    Resources res = context.getResources();\n"
+        + "    ResourceSnapshot snapshot = resourceSnapshot;\n"
+        + "    if (snapshot == null || !snapshot.isValidFor(res)) {\n"
+        + "      snapshot = new ResourceSnapshot(res, 2, 0, 0, 0);\n"
+        + "      snapshot.ints[0] = res.getDimensionPixelSize(1);\n"
+        + "      snapshot.ints[1] = res.getInteger(3);\n"
+        + "      resourceSnapshot = snapshot;\n"
+        + "    }\n"
+        + "    target.color = ContextCompat.getColor(context, 2);\n"
+        + "    target.padding = snapshot.ints[0];\n"
+        + "    target.columns = snapshot.ints[1];\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.resourceCache=true",
+            "-Abutterknife.staticBind=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+}
@@ -0,0 +1,330 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static java.util.Arrays.asList;
+
+public class SharedListenersTest {
+  private static final JavaFileObject NON_FINAL_R = JavaFileObjects.forSourceString("test.R", ""
+      + "package test;\n"
+      + "public final class R {\n"
+      + "  public static final class id {\n"
+      + "    public static int one = 0x7f080001;\n"
+      + "    public static int two = 0x7f080002;\n"
+      + "  }\n"
+      + "}"
+  );
+
+  private static final JavaFileObject R2 = JavaFileObjects.forSourceString("test.R2", ""
+      + "package test;\n"
+      + "public final class R2 {\n"
+      + "  public static final class id {\n"
+      + "    public static final int one = 0x7f080001;\n"
+      + "    public static final int two = 0x7f080002;\n"
+      + "  }\n"
+      + "}"
+  );
+
+  @Test public void sharedListenerSwitchesOnId() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.Button;\n"
+        + "import butterknife.OnClick;\n"
+        + "import butterknife.OnLongClick;\n"
+        + "import butterknife.Optional;\n"
+        + "public class Test {\n"
+        + "  @OnClick(1) void one() {}\n"
+        + "  @OnClick({2, 3}) void twoOrThree(Button button) {}\n"
+        + "  @Optional @OnClick(4) void four(View view) {}\n"
+        + "  @OnLongClick(1) boolean longOne() { return true; }\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.Button;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 4;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private View view2;\n"
+        + "  private View view3;\n"
+        + "  private View view4;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    DebouncingOnClickListener onClickListener = new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        switch (p0.getId()) {\n"
+        + "          case 1:\n"
+        + "            target.one();\n"
+        + "            break;\n"
+        + "          case 2:\n"
+        + "          case 3:\n"
+        + "            target.twoOrThree(Utils.castParam(p0, \"doClick\", 0, \"twoOrThree\", 0, Button.class));\n"
+        + "            break;\n"
+        + "          case 4:\n"
+        + "            target.four(p0);\n"
+        + "            break;\n"
+        + "        }\n"
+        + "      }\n"
+        + "    };\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"method 'one' and method 'longOne'\");\n"
+        + "    view1 = view;\n"
+        + "    view.setOnClickListener(onClickListener);\n"
+        + "    view.setOnLongClickListener(new View.OnLongClickListener() {\n"
+        + "      @Override\n"
+        + "      public boolean onLongClick(View p0) {\n"
+        + "        return target.longOne();\n"
+        + "      }\n"
+        + "    });\n"
+        + "    view = Utils.findRequiredView(source, 2, \"method 'twoOrThree'\");\n"
+        + "    view2 = view;\n"
+        + "    view.setOnClickListener(onClickListener);\n"
+        + "    view = Utils.findRequiredView(source, 3, \"method 'twoOrThree'\");\n"
+        + "    view3 = view;\n"
+        + "    view.setOnClickListener(onClickListener);\n"
+        + "    view = source.findViewById(4);\n"
+        + "    if (view != null) {\n"
+        + "      view4 = view;\n"
+        + "      view.setOnClickListener(onClickListener);\n"
+        + "    }\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    target = null;\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1.setOnLongClickListener(null);\n"
+        + "    view1 = null;\n"
+        + "    view2.setOnClickListener(null);\n"
+        + "    view2 = null;\n"
+        + "    view3.setOnClickListener(null);\n"
+        + "    view3 = null;\n"
+        + "    if (view4 != null) {\n"
+        + "      view4.setOnClickListener(null);\n"
+        + "      view4 = null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.sharedListeners=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void sharedListenerPerDebounce() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.OnClick;\n"
+        + "public class Test {\n"
+        + "  @OnClick({1, 2}) void oneOrTwo() {}\n"
+        + "  @OnClick(value = {3, 4}, debounce = 500) void threeOrFour(View view) {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 4;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private View view2;\n"
+        + "  private View view3;\n"
+        + "  private View view4;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    DebouncingOnClickListener onClickListener = new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        switch (p0.getId()) {\n"
+        + "          case 1:\n"
+        + "          case 2:\n"
+        + "            target.oneOrTwo();\n"
+        + "            break;\n"
+        + "        }\n"
+        + "      }\n"
+        + "    };\n"
+        + "    DebouncingOnClickListener onClickListener500 = new DebouncingOnClickListener(500) {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        switch (p0.getId()) {\n"
+        + "          case 3:\n"
+        + "          case 4:\n"
+        + "            target.threeOrFour(p0);\n"
+        + "            break;\n"
+        + "        }\n"
+        + "      }\n"
+        + "    };\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"method 'oneOrTwo'\");\n"
+        + "    view1 = view;\n"
+        + "    view.setOnClickListener(onClickListener);\n"
+        + "    view = Utils.findRequiredView(source, 2, \"method 'oneOrTwo'\");\n"
+        + "    view2 = view;\n"
+        + "    view.setOnClickListener(onClickListener);\n"
+        + "    view = Utils.findRequiredView(source, 3, \"method 'threeOrFour'\");\n"
+        + "    view3 = view;\n"
+        + "    view.setOnClickListener(onClickListener500);\n"
+        + "    view = Utils.findRequiredView(source, 4, \"method 'threeOrFour'\");\n"
+        + "    view4 = view;\n"
+        + "    view.setOnClickListener(onClickListener500);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    target = null;\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1 = null;\n"
+        + "    view2.setOnClickListener(null);\n"
+        + "    view2 = null;\n"
+        + "    view3.setOnClickListener(null);\n"
+        + "    view3 = null;\n"
+        + "    view4.setOnClickListener(null);\n"
+        + "    view4 = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.sharedListeners=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void libraryIdsCompared() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.OnLongClick;\n"
+        + "public class Test {\n"
+        + "  @OnLongClick(R2.id.one) boolean one() { return true; }\n"
+        + "  @OnLongClick(R2.id.two) void two() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 2;\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view7f080001;\n"
+        + "  private View view7f080002;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View.OnLongClickListener onLongClickListener = new View.OnLongClickListener() {\n"
+        + "      @Override\n"
+        + "      public boolean onLongClick(View p0) {\n"
+        + "        int id = p0.getId();\n"
+        + "        if (id == R.id.one) {\n"
+        + "          return target.one();\n"
+        + "        } else if (id == R.id.two) {\n"
+        + "          target.two();\n"
+        + "        }\n"
+        + "        return true;\n"
+        + "      }\n"
+        + "    };\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, R.id.one, \"method 'one'\");\n"
+        + "    view7f080001 = view;\n"
+        + "    view.setOnLongClickListener(onLongClickListener);\n"
+        + "    view = Utils.findRequiredView(source, R.id.two, \"method 'two'\");\n"
+        + "    view7f080002 = view;\n"
+        + "    view.setOnLongClickListener(onLongClickListener);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    target = null;\n"
+        + "    view7f080001.setOnLongClickListener(null);\n"
+        + "    view7f080001 = null;\n"
+        + "    view7f080002.setOnLongClickListener(null);\n"
+        + "    view7f080002 = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSources()).that(asList(source, NON_FINAL_R, R2))
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.sharedListeners=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+}
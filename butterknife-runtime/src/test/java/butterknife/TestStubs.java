@@ -22,4 +22,27 @@ final class TestStubs {
           + "    void onPageScrollStateChanged(int state);\n"
           + "  }\n"
           + "}\n");
+
+  static final JavaFileObject ANDROIDX_RECYCLER_VIEW =
+      JavaFileObjects.forSourceString("androidx.recyclerview.widget.RecyclerView", ""
+          + "package androidx.recyclerview.widget;\n"
+          + "\n"
+          + "import android.view.MotionEvent;\n"
+          + "\n"
+          + "public interface RecyclerView {\n"
+          + "  void addOnItemTouchListener(OnItemTouchListener listener);\n"
+          + "  void removeOnItemTouchListener(OnItemTouchListener listener);\n"
+          + "  interface OnItemTouchListener {\n"
+          + "    boolean onInterceptTouchEvent(RecyclerView rv, MotionEvent e);\n"
+          + "    void onTouchEvent(RecyclerView rv, MotionEvent e);\n"
+          + "    void onRequestDisallowInterceptTouchEvent(boolean disallowIntercept);\n"
+          + "  }\n"
+          + "  class SimpleOnItemTouchListener implements OnItemTouchListener {\n"
+          + "    @Override public boolean onInterceptTouchEvent(RecyclerView rv, MotionEvent e) {\n"
+          + "      return false;\n"
+          + "    }\n"
+          + "    @Override public void onTouchEvent(RecyclerView rv, MotionEvent e) {}\n"
+          + "    @Override public void onRequestDisallowInterceptTouchEvent(boolean disallow) {}\n"
+          + "  }\n"
+          + "}\n");
 }
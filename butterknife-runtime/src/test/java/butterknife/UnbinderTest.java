@@ -32,11 +32,23 @@ public class UnbinderTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 2;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -112,11 +124,23 @@ public class UnbinderTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new Test_ViewBinding((Test) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1;\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -147,11 +171,24 @@ public class UnbinderTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class TestTwo_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new TestTwo_ViewBinding((TestTwo) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1 + Test_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  private TestTwo target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -301,9 +338,17 @@ public class UnbinderTest {
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import java.lang.Deprecated;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class A_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new A_ViewBinding((A) target, source.getContext());\n"
+        + "    }\n"
+        + "  };\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(A, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -331,8 +376,22 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import java.lang.Deprecated;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
         + "public class B_ViewBinding extends A_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new B_ViewBinding((B) target, source.getContext());\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return A_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(B, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -357,10 +416,23 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class C_ViewBinding extends B_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new C_ViewBinding((C) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1 + B_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  private C target;\n"
         + "  @UiThread\n"
         + "  public C_ViewBinding(C target, View source) {\n"
@@ -387,7 +459,21 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
         + "public class D_ViewBinding extends C_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new D_ViewBinding((D) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return C_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  @UiThread\n"
         + "  public D_ViewBinding(D target, View source) {\n"
         + "    super(target, source);\n"
@@ -403,7 +489,21 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
         + "public class E_ViewBinding extends C_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new E_ViewBinding((E) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return C_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  @UiThread\n"
         + "  public E_ViewBinding(E target, View source) {\n"
         + "    super(target, source);\n"
@@ -419,7 +519,21 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
         + "public class F_ViewBinding extends D_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new F_ViewBinding((F) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return D_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  @UiThread\n"
         + "  public F_ViewBinding(F target, View source) {\n"
         + "    super(target, source);\n"
@@ -435,11 +549,24 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class G_ViewBinding extends E_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new G_ViewBinding((G) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 2 + E_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  private G target;\n"
         + "  private View view1020002;\n"
         + "  @UiThread\n"
@@ -478,10 +605,23 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.BindingFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
         + "import java.lang.Override;\n"
         + "public class H_ViewBinding extends G_ViewBinding {\n"
+        + "  public static final BindingFactory FACTORY = new BindingFactory() {\n"
+        + "    @Override\n"
+        + "    public Unbinder bind(Object target, View source) {\n"
+        + "      return new H_ViewBinding((H) target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public int viewCount() {\n"
+        + "      return 1 + G_ViewBinding.FACTORY.viewCount();\n"
+        + "    }\n"
+        + "  };\n"
         + "  private H target;\n"
         + "  @UiThread\n"
         + "  public H_ViewBinding(H target, View source) {\n"
@@ -1,13 +1,26 @@
 package butterknife;
 
 import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.os.Looper;
 import android.view.View;
 import androidx.test.InstrumentationRegistry;
+import butterknife.internal.BindingFactory;
+import butterknife.internal.BindingRegistry;
+import butterknife.internal.ListenerQueue;
+import butterknife.internal.Rebindable;
+import butterknife.internal.Utils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
 
 public class ButterKnifeTest {
   private final Context context = InstrumentationRegistry.getContext();
@@ -15,6 +28,8 @@ public class ButterKnifeTest {
   @Before @After // Clear out cache of binders before and after each test.
   public void resetViewsCache() {
     ButterKnife.BINDINGS.clear();
+    ButterKnife.REGISTRIES.clear();
+    ButterKnife.setMonitor(null);
   }
 
   @Test public void zeroBindingsBindDoesNotThrowExceptionAndCaches() {
@@ -25,14 +40,252 @@ public class ButterKnifeTest {
     View view = new View(context);
     assertThat(ButterKnife.BINDINGS).isEmpty();
     assertThat(ButterKnife.bind(example, view)).isSameAs(Unbinder.EMPTY);
-    assertThat(ButterKnife.BINDINGS).containsEntry(Example.class, null);
+    assertThat(ButterKnife.BINDINGS).containsEntry(Example.class, ButterKnife.NO_BINDING);
   }
 
-  @Test public void bindingKnownPackagesIsNoOp() {
+  @Test public void bindingKnownPackagesIsNoOpAndCaches() {
     View view = new View(context);
-    ButterKnife.bind(view);
-    assertThat(ButterKnife.BINDINGS).isEmpty();
-    ButterKnife.bind(new Object(), view);
-    assertThat(ButterKnife.BINDINGS).isEmpty();
+    assertThat(ButterKnife.bind(view)).isSameAs(Unbinder.EMPTY);
+    assertThat(ButterKnife.BINDINGS).containsExactly(View.class, ButterKnife.NO_BINDING);
+    assertThat(ButterKnife.bind(new Object(), view)).isSameAs(Unbinder.EMPTY);
+    assertThat(ButterKnife.BINDINGS).containsEntry(Object.class, ButterKnife.NO_BINDING);
+  }
+
+  @Test public void backgroundBindUsesSharedCache() throws InterruptedException {
+    class Example {
+    }
+
+    Example example = new Example();
+    View view = new View(context);
+    Unbinder[] unbinder = new Unbinder[1];
+    Thread thread = new Thread(() -> unbinder[0] = ButterKnife.bindInBackground(example, view));
+    thread.start();
+    thread.join();
+    assertThat(unbinder[0]).isSameAs(Unbinder.EMPTY);
+    assertThat(ButterKnife.BINDINGS).containsEntry(Example.class, ButterKnife.NO_BINDING);
+  }
+
+  @Test public void backgroundBindAttachesDeferredListenersOnMainThread()
+      throws InterruptedException {
+    class Example {
+    }
+
+    CountDownLatch attached = new CountDownLatch(1);
+    Thread[] attachThread = new Thread[1];
+    ButterKnife.BINDINGS.put(Example.class, (target, source) -> {
+      ListenerQueue.enqueue(() -> {
+        attachThread[0] = Thread.currentThread();
+        attached.countDown();
+      });
+      return Unbinder.EMPTY;
+    });
+
+    // A plain thread has no Looper and so no Choreographer of its own.
+    Thread thread = new Thread(() -> ButterKnife.bindInBackground(new Example(),
+        new View(context)));
+    thread.start();
+    thread.join();
+    assertThat(attached.await(5, SECONDS)).isTrue();
+    assertThat(attachThread[0]).isSameAs(Looper.getMainLooper().getThread());
+  }
+
+  @Test public void backgroundBindsLoadResourcesConcurrently() throws InterruptedException {
+    class Example {
+      Drawable drawable;
+    }
+
+    ButterKnife.BINDINGS.put(Example.class, (target, source) -> {
+      ((Example) target).drawable = Utils.getTintedDrawable(source.getContext(),
+          android.R.drawable.ic_delete, android.R.attr.textColorPrimary);
+      return Unbinder.EMPTY;
+    });
+
+    Example[] examples = new Example[8];
+    Thread[] threads = new Thread[examples.length];
+    List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+    for (int i = 0; i < threads.length; i++) {
+      Example example = examples[i] = new Example();
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 100; j++) {
+          ButterKnife.bindInBackground(example, new View(context));
+        }
+      });
+      threads[i].setUncaughtExceptionHandler((t, e) -> failures.add(e));
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(failures).isEmpty();
+    for (Example example : examples) {
+      assertThat(example.drawable).isNotNull();
+    }
+  }
+
+  @Test public void registeredBindingIsUsedAndCached() {
+    class Example {
+    }
+
+    Unbinder unbinder = () -> {};
+    BindingFactory factory = (target, source) -> unbinder;
+    ButterKnife.addRegistry(new BindingRegistry() {
+      @Override public BindingFactory get(Class<?> targetClass) {
+        return targetClass == Example.class ? factory : null;
+      }
+
+      @Override public List<String> targets() {
+        return Collections.singletonList(Example.class.getName());
+      }
+    });
+
+    Example example = new Example();
+    View view = new View(context);
+    assertThat(ButterKnife.bind(example, view)).isSameAs(unbinder);
+    assertThat(ButterKnife.BINDINGS).containsEntry(Example.class, factory);
+  }
+
+  @Test public void registryMissFallsBackToName() {
+    // A module without a registry may share a package with one which has a registry.
+    ButterKnife.addRegistry(registryOf("butterknife.Other"));
+
+    View view = new View(context);
+    assertThat(ButterKnife.bind(new Unregistered(), view))
+        .isSameAs(Unregistered_ViewBinding.UNBINDER);
+    assertThat(ButterKnife.BINDINGS)
+        .containsEntry(Unregistered.class, Unregistered_ViewBinding.FACTORY);
+  }
+
+  @Test public void preloadCachesBinding() {
+    class Example {
+    }
+
+    ButterKnife.preload(Example.class);
+    assertThat(ButterKnife.BINDINGS).containsEntry(Example.class, ButterKnife.NO_BINDING);
+  }
+
+  @Test public void warmUpCachesRegisteredTargets() {
+    class Example {
+    }
+
+    BindingFactory factory = (target, source) -> Unbinder.EMPTY;
+    ButterKnife.addRegistry(new BindingRegistry() {
+      @Override public BindingFactory get(Class<?> targetClass) {
+        return targetClass == Example.class ? factory : null;
+      }
+
+      @Override public List<String> targets() {
+        return Collections.singletonList(Example.class.getName());
+      }
+    });
+
+    ButterKnife.warmUp(Runnable::run);
+    assertThat(ButterKnife.BINDINGS).containsExactly(Example.class, factory);
+  }
+
+  @Test public void monitorReportsEachBind() {
+    class Example {
+    }
+
+    Unbinder unbinder = () -> {};
+    BindingFactory factory = new BindingFactory() {
+      @Override public Unbinder bind(Object target, View source) {
+        return unbinder;
+      }
+
+      @Override public int viewCount() {
+        return 2;
+      }
+    };
+    ButterKnife.addRegistry(new BindingRegistry() {
+      @Override public BindingFactory get(Class<?> targetClass) {
+        return targetClass == Example.class ? factory : null;
+      }
+
+      @Override public List<String> targets() {
+        return Collections.singletonList(Example.class.getName());
+      }
+    });
+    List<String> binds = new ArrayList<>();
+    ButterKnife.setMonitor((targetClass, cached, lookupNanos, bindNanos, viewCount) -> {
+      assertThat(lookupNanos).isAtLeast(0L);
+      assertThat(bindNanos).isAtLeast(0L);
+      binds.add(targetClass.getSimpleName() + " " + cached + " " + viewCount);
+    });
+
+    Example example = new Example();
+    View view = new View(context);
+    assertThat(ButterKnife.bind(example, view)).isSameAs(unbinder);
+    assertThat(ButterKnife.bind(example, view)).isSameAs(unbinder);
+    assertThat(binds).containsExactly("Example false 2", "Example true 2").inOrder();
+  }
+
+  @Test public void bindWithUnbinderUsesFactoryUnbinder() {
+    class Example {
+    }
+
+    Unbinder unbinder = () -> {};
+    BindingFactory factory = new BindingFactory() {
+      @Override public Unbinder bind(Object target, View source) {
+        return Unbinder.EMPTY;
+      }
+
+      @Override public Unbinder bindWithUnbinder(Object target, View source) {
+        return unbinder;
+      }
+    };
+    ButterKnife.BINDINGS.put(Example.class, factory);
+
+    View view = new View(context);
+    assertThat(ButterKnife.bind(new Example(), view)).isSameAs(Unbinder.EMPTY);
+    assertThat(ButterKnife.bindWithUnbinder(new Example(), view)).isSameAs(unbinder);
+  }
+
+  @Test public void rebindDelegatesToBinding() {
+    List<View> sources = new ArrayList<>();
+    class RebindableUnbinder implements Unbinder, Rebindable {
+      @Override public void unbind() {
+      }
+
+      @Override public void rebind(View source) {
+        sources.add(source);
+      }
+    }
+
+    View view = new View(context);
+    ButterKnife.rebind(new RebindableUnbinder(), view);
+    assertThat(sources).containsExactly(view);
+
+    ButterKnife.rebind(Unbinder.EMPTY, view);
+  }
+
+  @Test public void rebindUnsupportedBindingThrows() {
+    try {
+      ButterKnife.rebind(() -> {}, new View(context));
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessageThat().endsWith(" does not support rebinding. Set the"
+          + " 'butterknife.rebind' annotation processor option to 'true'.");
+    }
+  }
+
+  private static BindingRegistry registryOf(String target) {
+    return new BindingRegistry() {
+      @Override public BindingFactory get(Class<?> targetClass) {
+        return null;
+      }
+
+      @Override public List<String> targets() {
+        return Collections.singletonList(target);
+      }
+    };
+  }
+
+  static final class Unregistered {
+  }
+
+  /** Found by name as the generated binding of {@link Unregistered}. */
+  public static final class Unregistered_ViewBinding {
+    static final Unbinder UNBINDER = () -> {};
+    public static final BindingFactory FACTORY = (target, source) -> UNBINDER;
   }
 }
@@ -4,16 +4,21 @@ import android.app.Activity;
 import android.app.Dialog;
 import android.util.Log;
 import android.view.View;
+import androidx.annotation.AnyThread;
 import androidx.annotation.CheckResult;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.UiThread;
 import androidx.annotation.VisibleForTesting;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.LinkedHashMap;
+import androidx.annotation.WorkerThread;
+import butterknife.internal.BindingFactory;
+import butterknife.internal.BindingRegistry;
+import butterknife.internal.Rebindable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 /**
  * Field and method binding for Android views. Use this class to simplify finding views and
@@ -77,19 +82,85 @@ public final class ButterKnife {
   }
 
   private static final String TAG = "ButterKnife";
-  private static boolean debug = false;
+  private static volatile boolean debug = false;
+  private static volatile @Nullable BindingMonitor monitor;
 
+  /** Cached in {@link #BINDINGS} for types which have no binding. */
   @VisibleForTesting
-  static final Map<Class<?>, Constructor<? extends Unbinder>> BINDINGS = new LinkedHashMap<>();
+  static final BindingFactory NO_BINDING = (target, source) -> Unbinder.EMPTY;
+
+  // Read without locking on every bind. Entries are only ever added and a racing lookup of the
+  // same type resolves to an equivalent factory, so concurrent writers need no coordination.
+  @VisibleForTesting
+  static final Map<Class<?>, BindingFactory> BINDINGS = new ConcurrentHashMap<>();
+  @VisibleForTesting
+  static final List<BindingRegistry> REGISTRIES = new CopyOnWriteArrayList<>();
 
   /** Control whether debug logging is enabled. */
   public static void setDebug(boolean debug) {
     ButterKnife.debug = debug;
   }
 
+  /**
+   * Set a monitor which receives the timing of each bind, or null to stop measuring. Install before
+   * binding to also observe the first, uncached, bind of each type.
+   */
+  @AnyThread
+  public static void setMonitor(@Nullable BindingMonitor monitor) {
+    ButterKnife.monitor = monitor;
+  }
+
+  /**
+   * Register a binding registry generated by {@code butterknife-compiler}. Bindings for types in
+   * the registry are created without reflectively loading their generated class by name. Call
+   * this once, before any binding, for each module which specifies the
+   * {@code butterknife.registry} annotation processor option.
+   * <pre><code>
+   * ButterKnife.addRegistry(ButterKnifeRegistry.INSTANCE);
+   * </code></pre>
+   */
+  @AnyThread
+  public static void addRegistry(@NonNull BindingRegistry registry) {
+    REGISTRIES.add(registry);
+  }
+
+  /**
+   * Resolve and cache the bindings of {@code targetClasses} so that their first bind does not pay
+   * for class loading and lookup. Call from a background thread during startup.
+   */
+  @WorkerThread
+  public static void preload(@NonNull Class<?>... targetClasses) {
+    for (Class<?> targetClass : targetClasses) {
+      findBindingFactoryForClass(targetClass);
+    }
+  }
+
+  /**
+   * Resolve and cache the bindings of every type listed in the {@linkplain #addRegistry registered
+   * registries} on {@code executor}. Call after adding registries, for example while a splash
+   * screen is displayed.
+   */
+  @AnyThread
+  public static void warmUp(@NonNull Executor executor) {
+    executor.execute(() -> {
+      for (BindingRegistry registry : REGISTRIES) {
+        ClassLoader classLoader = registry.getClass().getClassLoader();
+        for (String targetName : registry.targets()) {
+          try {
+            // Load without initializing to avoid running static initializers of the targets.
+            findBindingFactoryForClass(Class.forName(targetName, false, classLoader));
+          } catch (ClassNotFoundException e) {
+            if (debug) Log.d(TAG, "Unable to warm up binding for removed type " + targetName);
+          }
+        }
+      }
+    });
+  }
+
   /**
    * BindView annotated fields and methods in the specified {@link Activity}. The current content
-   * view is used as the view root.
+   * view is used as the view root, or the {@link BindRoot} container within it when the activity
+   * declares one.
    *
    * @param target Target activity for view binding.
    */
@@ -112,7 +183,8 @@ public final class ButterKnife {
 
   /**
    * BindView annotated fields and methods in the specified {@link Dialog}. The current content
-   * view is used as the view root.
+   * view is used as the view root, or the {@link BindRoot} container within it when the dialog
+   * declares one.
    *
    * @param target Target dialog for view binding.
    */
@@ -157,58 +229,136 @@ public final class ButterKnife {
    */
   @NonNull @UiThread
   public static Unbinder bind(@NonNull Object target, @NonNull View source) {
-    Class<?> targetClass = target.getClass();
-    if (debug) Log.d(TAG, "Looking up binding for " + targetClass.getName());
-    Constructor<? extends Unbinder> constructor = findBindingConstructorForClass(targetClass);
+    return createBinding(target, source, false);
+  }
+
+  /**
+   * BindView annotated fields and methods in the specified {@code target} using the {@code source}
+   * {@link View} as the view root. Unlike {@link #bind(Object, View)} the returned
+   * {@link Unbinder} always clears the bound fields.
+   * <p>
+   * When {@code butterknife-compiler} is run with the {@code butterknife.staticBind} annotation
+   * processor option set to {@code true}, targets without listeners are bound without allocating
+   * and {@link #bind(Object, View)} returns a shared {@link Unbinder} which does nothing. Use this
+   * method for those targets whose fields must be cleared, such as in a fragment.
+   *
+   * @param target Target class for view binding.
+   * @param source View root on which IDs will be looked up.
+   */
+  @NonNull @UiThread
+  public static Unbinder bindWithUnbinder(@NonNull Object target, @NonNull View source) {
+    return createBinding(target, source, true);
+  }
+
+  /**
+   * BindView annotated fields and methods in the specified {@code target} using the {@code source}
+   * {@link View} as the view root from a background thread. Use this to bind hierarchies which were
+   * inflated off the main thread, such as by {@code AsyncLayoutInflater}, before handing them to
+   * the main thread.
+   * <p>
+   * The {@code source} hierarchy must not yet be attached to a window since views are not safe to
+   * touch off the main thread once attached. Bound listeners are still invoked on the main thread
+   * and the returned {@link Unbinder} must only be called from the main thread. Listeners deferred
+   * by the {@code butterknife.deferListeners} option are attached from the main thread.
+   *
+   * @param target Target class for view binding.
+   * @param source View root on which IDs will be looked up.
+   */
+  @NonNull @WorkerThread
+  public static Unbinder bindInBackground(@NonNull Object target, @NonNull View source) {
+    return createBinding(target, source, false);
+  }
 
-    if (constructor == null) {
-      return Unbinder.EMPTY;
+  /**
+   * Move the bindings of {@code existing} onto the {@code source} view hierarchy without creating
+   * a new binding. Fields are reassigned from the new views and the listeners which were attached
+   * to the old views are moved onto the new ones. Use this to retarget a recycled view holder at a
+   * different item view.
+   * <p>
+   * Generated bindings only support this when {@code butterknife-compiler} is run with the
+   * {@code butterknife.rebind} annotation processor option set to {@code true}.
+   *
+   * @param existing Unbinder returned from an earlier bind of the target.
+   * @param source View root on which IDs will be looked up.
+   */
+  @UiThread
+  public static void rebind(@NonNull Unbinder existing, @NonNull View source) {
+    if (existing instanceof Rebindable) {
+      ((Rebindable) existing).rebind(source);
+    } else if (existing != Unbinder.EMPTY) {
+      throw new IllegalArgumentException(existing.getClass().getName()
+          + " does not support rebinding. Set the 'butterknife.rebind' annotation processor option"
+          + " to 'true'.");
     }
+  }
 
-    //noinspection TryWithIdenticalCatches Resolves to API 19+ only type.
-    try {
-      return constructor.newInstance(target, source);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException("Unable to invoke " + constructor, e);
-    } catch (InstantiationException e) {
-      throw new RuntimeException("Unable to invoke " + constructor, e);
-    } catch (InvocationTargetException e) {
-      Throwable cause = e.getCause();
-      if (cause instanceof RuntimeException) {
-        throw (RuntimeException) cause;
-      }
-      if (cause instanceof Error) {
-        throw (Error) cause;
-      }
-      throw new RuntimeException("Unable to create binding instance.", cause);
+  private static Unbinder createBinding(Object target, View source, boolean withUnbinder) {
+    Class<?> targetClass = target.getClass();
+    if (debug) Log.d(TAG, "Looking up binding for " + targetClass.getName());
+    BindingMonitor monitor = ButterKnife.monitor;
+    if (monitor == null) {
+      BindingFactory bindingFactory = findBindingFactoryForClass(targetClass);
+      return withUnbinder
+          ? bindingFactory.bindWithUnbinder(target, source)
+          : bindingFactory.bind(target, source);
     }
+
+    boolean cached = BINDINGS.containsKey(targetClass);
+    long lookupStart = System.nanoTime();
+    BindingFactory bindingFactory = findBindingFactoryForClass(targetClass);
+    long bindStart = System.nanoTime();
+    Unbinder unbinder = withUnbinder
+        ? bindingFactory.bindWithUnbinder(target, source)
+        : bindingFactory.bind(target, source);
+    long bindEnd = System.nanoTime();
+    monitor.onBind(targetClass, cached, bindStart - lookupStart, bindEnd - bindStart,
+        bindingFactory.viewCount());
+    return unbinder;
   }
 
-  @Nullable @CheckResult @UiThread
-  private static Constructor<? extends Unbinder> findBindingConstructorForClass(Class<?> cls) {
-    Constructor<? extends Unbinder> bindingCtor = BINDINGS.get(cls);
-    if (bindingCtor != null || BINDINGS.containsKey(cls)) {
+  @NonNull @CheckResult
+  private static BindingFactory findBindingFactoryForClass(Class<?> cls) {
+    BindingFactory bindingFactory = BINDINGS.get(cls);
+    if (bindingFactory != null) {
       if (debug) Log.d(TAG, "HIT: Cached in binding map.");
-      return bindingCtor;
+      return bindingFactory;
     }
     String clsName = cls.getName();
     if (clsName.startsWith("android.") || clsName.startsWith("java.")
         || clsName.startsWith("androidx.")) {
       if (debug) Log.d(TAG, "MISS: Reached framework class. Abandoning search.");
-      return null;
+      BINDINGS.put(cls, NO_BINDING);
+      return NO_BINDING;
+    }
+    bindingFactory = findRegisteredBindingFactory(cls);
+    if (bindingFactory != null) {
+      if (debug) Log.d(TAG, "HIT: Found in binding registry.");
+    } else {
+      try {
+        Class<?> bindingClass = cls.getClassLoader().loadClass(clsName + "_ViewBinding");
+        bindingFactory = (BindingFactory) bindingClass.getField("FACTORY").get(null);
+        if (debug) Log.d(TAG, "HIT: Loaded binding class and factory.");
+      } catch (ClassNotFoundException e) {
+        if (debug) Log.d(TAG, "Not found. Trying superclass " + cls.getSuperclass().getName());
+        bindingFactory = findBindingFactoryForClass(cls.getSuperclass());
+      } catch (NoSuchFieldException e) {
+        throw new RuntimeException("Unable to find binding factory for " + clsName, e);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException("Unable to access binding factory for " + clsName, e);
+      }
     }
-    try {
-      Class<?> bindingClass = cls.getClassLoader().loadClass(clsName + "_ViewBinding");
-      //noinspection unchecked
-      bindingCtor = (Constructor<? extends Unbinder>) bindingClass.getConstructor(cls, View.class);
-      if (debug) Log.d(TAG, "HIT: Loaded binding class and constructor.");
-    } catch (ClassNotFoundException e) {
-      if (debug) Log.d(TAG, "Not found. Trying superclass " + cls.getSuperclass().getName());
-      bindingCtor = findBindingConstructorForClass(cls.getSuperclass());
-    } catch (NoSuchMethodException e) {
-      throw new RuntimeException("Unable to find binding constructor for " + clsName, e);
+    BINDINGS.put(cls, bindingFactory);
+    return bindingFactory;
+  }
+
+  @Nullable
+  private static BindingFactory findRegisteredBindingFactory(Class<?> cls) {
+    for (BindingRegistry registry : REGISTRIES) {
+      BindingFactory bindingFactory = registry.get(cls);
+      if (bindingFactory != null) {
+        return bindingFactory;
+      }
     }
-    BINDINGS.put(cls, bindingCtor);
-    return bindingCtor;
+    return null;
   }
 }